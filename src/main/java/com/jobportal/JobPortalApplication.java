@@ -2,6 +2,7 @@ package com.jobportal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Job Portal Management System
@@ -15,6 +16,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author Khushal Bhavsar
  */
 @SpringBootApplication
+@EnableScheduling
 public class JobPortalApplication {
 
     public static void main(String[] args) {
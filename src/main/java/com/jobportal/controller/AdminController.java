@@ -50,7 +50,7 @@ public class AdminController {
     }
 
     /**
-     * Search users by name
+     * Search users by name (typo-tolerant, best 50 matches)
      * GET /api/admin/users/search
      */
     @GetMapping("/users/search")
@@ -1,16 +1,22 @@
 package com.jobportal.controller;
 
 import com.jobportal.dto.*;
-import com.jobportal.model.User;
+import com.jobportal.service.ApplicationExportService;
 import com.jobportal.service.ApplicationService;
 import com.jobportal.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Application Controller - Presentation Layer
@@ -25,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationExportService applicationExportService;
     private final AuthService authService;
 
     /**
@@ -34,8 +41,8 @@ public class ApplicationController {
     @PostMapping("/apply")
     @PreAuthorize("hasRole('JOB_SEEKER')")
     public ResponseEntity<ApiResponse<ApplicationDTO>> applyForJob(@Valid @RequestBody ApplicationRequest request) {
-        User currentUser = authService.getCurrentUser();
-        ApplicationDTO application = applicationService.applyForJob(currentUser.getUserId(), request);
+        Long currentUserId = authService.getCurrentUserId();
+        ApplicationDTO application = applicationService.applyForJob(currentUserId, request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Application submitted successfully", application));
@@ -47,8 +54,8 @@ public class ApplicationController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ApplicationDTO>> getApplicationById(@PathVariable("id") Long applicationId) {
-        User currentUser = authService.getCurrentUser();
-        ApplicationDTO application = applicationService.getApplicationById(applicationId, currentUser.getUserId());
+        Long currentUserId = authService.getCurrentUserId();
+        ApplicationDTO application = applicationService.getApplicationById(applicationId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("Application retrieved successfully", application));
     }
 
@@ -61,8 +68,8 @@ public class ApplicationController {
     public ResponseEntity<ApiResponse<Page<ApplicationDTO>>> getMyApplications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        User currentUser = authService.getCurrentUser();
-        Page<ApplicationDTO> applications = applicationService.getApplicationsByUser(currentUser.getUserId(), page,
+        Long currentUserId = authService.getCurrentUserId();
+        Page<ApplicationDTO> applications = applicationService.getApplicationsByUser(currentUserId, page,
                 size);
         return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
     }
@@ -77,8 +84,8 @@ public class ApplicationController {
             @PathVariable("jobId") Long jobId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        User currentUser = authService.getCurrentUser();
-        Page<ApplicationDTO> applications = applicationService.getApplicationsByJob(currentUser.getUserId(), jobId,
+        Long currentUserId = authService.getCurrentUserId();
+        Page<ApplicationDTO> applications = applicationService.getApplicationsByJob(currentUserId, jobId,
                 page, size);
         return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
     }
@@ -92,12 +99,46 @@ public class ApplicationController {
     public ResponseEntity<ApiResponse<Page<ApplicationDTO>>> getRecruiterApplications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        User currentUser = authService.getCurrentUser();
-        Page<ApplicationDTO> applications = applicationService.getApplicationsByRecruiter(currentUser.getUserId(), page,
+        Long currentUserId = authService.getCurrentUserId();
+        Page<ApplicationDTO> applications = applicationService.getApplicationsByRecruiter(currentUserId, page,
                 size);
         return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
     }
 
+    /**
+     * Get all applications for recruiter's jobs with a selectable total
+     * GET /api/applications/recruiter?countMode={EXACT|NONE|APPROXIMATE}
+     */
+    @GetMapping(value = "/recruiter", params = "countMode")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<ResultSlice<ApplicationDTO>>> getRecruiterApplicationsSlice(
+            @RequestParam CountMode countMode,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Long currentUserId = authService.getCurrentUserId();
+        ResultSlice<ApplicationDTO> applications = applicationService.getApplicationsByRecruiterSlice(
+                currentUserId, page, size, countMode);
+        return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
+    }
+
+    /**
+     * Export all applications for recruiter's jobs as a streamed file
+     * GET /api/applications/recruiter/export?format={CSV|NDJSON}
+     */
+    @GetMapping("/recruiter/export")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportRecruiterApplications(
+            @RequestParam(defaultValue = "CSV") ApplicationExportService.Format format) {
+        Long currentUserId = authService.getCurrentUserId();
+        StreamingResponseBody body = applicationExportService.exportByRecruiter(currentUserId, format);
+        boolean csv = format == ApplicationExportService.Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "applications.csv" : "applications.ndjson").build().toString())
+                .body(body);
+    }
+
     /**
      * Update application status (Recruiter)
      * PUT /api/applications/{id}/status
@@ -107,12 +148,27 @@ public class ApplicationController {
     public ResponseEntity<ApiResponse<ApplicationDTO>> updateApplicationStatus(
             @PathVariable("id") Long applicationId,
             @Valid @RequestBody ApplicationStatusUpdateRequest request) {
-        User currentUser = authService.getCurrentUser();
+        Long currentUserId = authService.getCurrentUserId();
         ApplicationDTO application = applicationService.updateApplicationStatus(
-                currentUser.getUserId(), applicationId, request);
+                currentUserId, applicationId, request);
         return ResponseEntity.ok(ApiResponse.success("Application status updated successfully", application));
     }
 
+    /**
+     * Update the status of several applications in one request (Recruiter)
+     * PUT /api/applications/status
+     */
+    @PutMapping("/status")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<ApplicationBatchStatusUpdateResult>> updateApplicationStatuses(
+            @Valid @RequestBody ApplicationBatchStatusUpdateRequest request) {
+        Long currentUserId = authService.getCurrentUserId();
+        ApplicationBatchStatusUpdateResult result = applicationService.updateApplicationStatuses(
+                currentUserId, request);
+        return ResponseEntity.ok(ApiResponse.success(
+                result.getUpdated() + " application statuses updated", result));
+    }
+
     /**
      * Withdraw application (Job Seeker)
      * DELETE /api/applications/{id}
@@ -120,8 +176,8 @@ public class ApplicationController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('JOB_SEEKER')")
     public ResponseEntity<ApiResponse<Void>> withdrawApplication(@PathVariable("id") Long applicationId) {
-        User currentUser = authService.getCurrentUser();
-        applicationService.withdrawApplication(currentUser.getUserId(), applicationId);
+        Long currentUserId = authService.getCurrentUserId();
+        applicationService.withdrawApplication(currentUserId, applicationId);
         return ResponseEntity.ok(ApiResponse.success("Application withdrawn successfully"));
     }
 }
@@ -1,7 +1,6 @@
 package com.jobportal.controller;
 
 import com.jobportal.dto.*;
-import com.jobportal.model.User;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.DashboardService;
 import lombok.RequiredArgsConstructor;
@@ -42,8 +41,8 @@ public class DashboardController {
     @GetMapping("/recruiter")
     @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<ApiResponse<DashboardStats>> getRecruiterDashboard() {
-        User currentUser = authService.getCurrentUser();
-        DashboardStats stats = dashboardService.getRecruiterStats(currentUser.getUserId());
+        Long currentUserId = authService.getCurrentUserId();
+        DashboardStats stats = dashboardService.getRecruiterStats(currentUserId);
         return ResponseEntity.ok(ApiResponse.success("Recruiter dashboard statistics", stats));
     }
 
@@ -54,8 +53,8 @@ public class DashboardController {
     @GetMapping("/job-seeker")
     @PreAuthorize("hasRole('JOB_SEEKER')")
     public ResponseEntity<ApiResponse<DashboardStats>> getJobSeekerDashboard() {
-        User currentUser = authService.getCurrentUser();
-        DashboardStats stats = dashboardService.getJobSeekerStats(currentUser.getUserId());
+        Long currentUserId = authService.getCurrentUserId();
+        DashboardStats stats = dashboardService.getJobSeekerStats(currentUserId);
         return ResponseEntity.ok(ApiResponse.success("Job seeker dashboard statistics", stats));
     }
 }
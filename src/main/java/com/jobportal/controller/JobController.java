@@ -1,17 +1,21 @@
 package com.jobportal.controller;
 
 import com.jobportal.dto.*;
-import com.jobportal.model.User;
+import com.jobportal.search.JobSuggester;
 import com.jobportal.service.AuthService;
+import com.jobportal.service.JobImportService;
 import com.jobportal.service.JobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -27,6 +31,7 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
+    private final JobImportService jobImportService;
     private final AuthService authService;
 
     /**
@@ -36,13 +41,31 @@ public class JobController {
     @PostMapping
     @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
     public ResponseEntity<ApiResponse<JobDTO>> createJob(@Valid @RequestBody JobRequest request) {
-        User currentUser = authService.getCurrentUser();
-        JobDTO job = jobService.createJob(currentUser.getUserId(), request);
+        Long currentUserId = authService.getCurrentUserId();
+        JobDTO job = jobService.createJob(currentUserId, request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Job posted successfully", job));
     }
 
+    /**
+     * Bulk create job postings from a CSV (header row) or NDJSON body (Recruiter only)
+     * POST /api/jobs/import
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<JobImportResult>> importJobs(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        Long currentUserId = authService.getCurrentUserId();
+        JobImportService.Format format = MediaType.valueOf("text/csv").includes(contentType)
+                ? JobImportService.Format.CSV
+                : JobImportService.Format.NDJSON;
+        JobImportResult result = jobImportService.importJobs(currentUserId, body, format);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Imported " + result.getImported() + " jobs, " + result.getFailed() + " rows failed", result));
+    }
+
     /**
      * Update a job posting (Recruiter only)
      * PUT /api/jobs/{id}
@@ -52,8 +75,8 @@ public class JobController {
     public ResponseEntity<ApiResponse<JobDTO>> updateJob(
             @PathVariable("id") Long jobId,
             @Valid @RequestBody JobRequest request) {
-        User currentUser = authService.getCurrentUser();
-        JobDTO job = jobService.updateJob(currentUser.getUserId(), jobId, request);
+        Long currentUserId = authService.getCurrentUserId();
+        JobDTO job = jobService.updateJob(currentUserId, jobId, request);
         return ResponseEntity.ok(ApiResponse.success("Job updated successfully", job));
     }
 
@@ -64,8 +87,8 @@ public class JobController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
     public ResponseEntity<ApiResponse<Void>> deleteJob(@PathVariable("id") Long jobId) {
-        User currentUser = authService.getCurrentUser();
-        jobService.deleteJob(currentUser.getUserId(), jobId);
+        Long currentUserId = authService.getCurrentUserId();
+        jobService.deleteJob(currentUserId, jobId);
         return ResponseEntity.ok(ApiResponse.success("Job deleted successfully"));
     }
 
@@ -91,6 +114,31 @@ public class JobController {
         return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobs));
     }
 
+    /**
+     * Get active jobs with a selectable total (Public)
+     * GET /api/jobs?countMode={EXACT|NONE|APPROXIMATE} - NONE and APPROXIMATE skip the COUNT query
+     */
+    @GetMapping(params = { "countMode", "!cursor" })
+    public ResponseEntity<ApiResponse<ResultSlice<JobDTO>>> getAllJobsSlice(
+            @RequestParam CountMode countMode,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        ResultSlice<JobDTO> jobs = jobService.getActiveJobsSlice(page, size, countMode);
+        return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobs));
+    }
+
+    /**
+     * Get active jobs with keyset pagination (Public)
+     * GET /api/jobs?cursor={cursor}&size={size} - pass an empty cursor for the first page
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<JobDTO>>> getAllJobsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<JobDTO> jobs = jobService.getActiveJobsAfter(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobs));
+    }
+
     /**
      * Search jobs with filters (Public)
      * POST /api/jobs/search
@@ -101,6 +149,64 @@ public class JobController {
         return ResponseEntity.ok(ApiResponse.success("Search results", jobs));
     }
 
+    /**
+     * Search jobs with filters and a selectable total (Public)
+     * POST /api/jobs/search?countMode={EXACT|NONE|APPROXIMATE}
+     */
+    @PostMapping(value = "/search", params = "countMode")
+    public ResponseEntity<ApiResponse<ResultSlice<JobDTO>>> searchJobsSlice(
+            @RequestParam CountMode countMode,
+            @RequestBody JobSearchRequest request) {
+        ResultSlice<JobDTO> jobs = jobService.searchJobsSlice(request, countMode);
+        return ResponseEntity.ok(ApiResponse.success("Search results", jobs));
+    }
+
+    /**
+     * Search jobs with filters and facet counts (Public)
+     * POST /api/jobs/search/facets
+     */
+    @PostMapping("/search/facets")
+    public ResponseEntity<ApiResponse<JobFacetedSearchResponse>> searchJobsWithFacets(
+            @RequestBody JobSearchRequest request) {
+        JobFacetedSearchResponse response = jobService.searchJobsWithFacets(request);
+        return ResponseEntity.ok(ApiResponse.success("Search results", response));
+    }
+
+    /**
+     * Search jobs with filters using keyset pagination (Public)
+     * POST /api/jobs/search/cursor
+     */
+    @PostMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<JobDTO>>> searchJobsByCursor(@RequestBody JobSearchRequest request) {
+        CursorPage<JobDTO> jobs = jobService.searchJobsAfter(request);
+        return ResponseEntity.ok(ApiResponse.success("Search results", jobs));
+    }
+
+    /**
+     * Search jobs by title, tolerating typos (Public)
+     * GET /api/jobs/search/title?title={title}&limit={limit}
+     */
+    @GetMapping("/search/title")
+    public ResponseEntity<ApiResponse<List<JobDTO>>> searchJobsByTitle(
+            @RequestParam String title,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<JobDTO> jobs = jobService.searchJobsByTitle(title, limit);
+        return ResponseEntity.ok(ApiResponse.success("Search results", jobs));
+    }
+
+    /**
+     * Typeahead suggestions for the search box (Public)
+     * GET /api/jobs/suggest?q={prefix}&type={TITLE|SKILL|LOCATION|COMPANY}&limit={limit}
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionDTO>>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) JobSuggester.Type type,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionDTO> suggestions = jobService.suggest(query, type, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+
     /**
      * Get jobs posted by current recruiter
      * GET /api/jobs/my-jobs
@@ -110,8 +216,22 @@ public class JobController {
     public ResponseEntity<ApiResponse<Page<JobDTO>>> getMyJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        User currentUser = authService.getCurrentUser();
-        Page<JobDTO> jobs = jobService.getJobsByRecruiter(currentUser.getUserId(), page, size);
+        Long currentUserId = authService.getCurrentUserId();
+        Page<JobDTO> jobs = jobService.getJobsByRecruiter(currentUserId, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Your jobs retrieved successfully", jobs));
+    }
+
+    /**
+     * Get jobs posted by current recruiter with keyset pagination
+     * GET /api/jobs/my-jobs?cursor={cursor}&size={size}
+     */
+    @GetMapping(value = "/my-jobs", params = "cursor")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<JobDTO>>> getMyJobsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        Long currentUserId = authService.getCurrentUserId();
+        CursorPage<JobDTO> jobs = jobService.getJobsByRecruiterAfter(currentUserId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success("Your jobs retrieved successfully", jobs));
     }
 
@@ -122,8 +242,8 @@ public class JobController {
     @PutMapping("/{id}/toggle-status")
     @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
     public ResponseEntity<ApiResponse<JobDTO>> toggleJobStatus(@PathVariable("id") Long jobId) {
-        User currentUser = authService.getCurrentUser();
-        JobDTO job = jobService.toggleJobStatus(currentUser.getUserId(), jobId);
+        Long currentUserId = authService.getCurrentUserId();
+        JobDTO job = jobService.toggleJobStatus(currentUserId, jobId);
         return ResponseEntity.ok(ApiResponse.success("Job status updated successfully", job));
     }
 
@@ -1,7 +1,6 @@
 package com.jobportal.controller;
 
 import com.jobportal.dto.*;
-import com.jobportal.model.User;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.RecruiterService;
 import jakarta.validation.Valid;
@@ -55,8 +54,8 @@ public class RecruiterController {
     @GetMapping("/profile")
     @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<ApiResponse<RecruiterDTO>> getMyProfile() {
-        User currentUser = authService.getCurrentUser();
-        RecruiterDTO recruiter = recruiterService.getRecruiterByUserId(currentUser.getUserId());
+        Long currentUserId = authService.getCurrentUserId();
+        RecruiterDTO recruiter = recruiterService.getRecruiterByUserId(currentUserId);
         return ResponseEntity.ok(ApiResponse.success("Profile retrieved successfully", recruiter));
     }
 
@@ -67,8 +66,8 @@ public class RecruiterController {
     @PutMapping("/profile")
     @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<ApiResponse<RecruiterDTO>> updateProfile(@Valid @RequestBody RecruiterUpdateRequest request) {
-        User currentUser = authService.getCurrentUser();
-        RecruiterDTO recruiter = recruiterService.updateRecruiterProfile(currentUser.getUserId(), request);
+        Long currentUserId = authService.getCurrentUserId();
+        RecruiterDTO recruiter = recruiterService.updateRecruiterProfile(currentUserId, request);
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", recruiter));
     }
 
@@ -85,7 +84,7 @@ public class RecruiterController {
     }
 
     /**
-     * Search recruiters by company name (Public)
+     * Search recruiters by company name (Public, typo-tolerant, best 50 matches)
      * GET /api/recruiters/search
      */
     @GetMapping("/search")
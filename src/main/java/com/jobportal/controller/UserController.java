@@ -1,7 +1,6 @@
 package com.jobportal.controller;
 
 import com.jobportal.dto.*;
-import com.jobportal.model.User;
 import com.jobportal.service.AuthService;
 import com.jobportal.service.UserService;
 import jakarta.validation.Valid;
@@ -42,8 +41,8 @@ public class UserController {
      */
     @PutMapping("/profile")
     public ResponseEntity<ApiResponse<UserDTO>> updateProfile(@Valid @RequestBody ProfileUpdateRequest request) {
-        User currentUser = authService.getCurrentUser();
-        UserDTO updatedUser = userService.updateProfile(currentUser.getUserId(), request);
+        Long currentUserId = authService.getCurrentUserId();
+        UserDTO updatedUser = userService.updateProfile(currentUserId, request);
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", updatedUser));
     }
 
@@ -55,8 +54,8 @@ public class UserController {
     public ResponseEntity<ApiResponse<Void>> changePassword(
             @RequestParam String oldPassword,
             @RequestParam String newPassword) {
-        User currentUser = authService.getCurrentUser();
-        userService.changePassword(currentUser.getUserId(), oldPassword, newPassword);
+        Long currentUserId = authService.getCurrentUserId();
+        userService.changePassword(currentUserId, oldPassword, newPassword);
         return ResponseEntity.ok(ApiResponse.success("Password changed successfully"));
     }
 
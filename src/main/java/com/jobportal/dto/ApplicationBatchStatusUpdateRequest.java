@@ -0,0 +1,29 @@
+package com.jobportal.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for applying one status update to several applications by recruiter
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationBatchStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    private List<Long> applicationIds;
+
+    @NotBlank(message = "Status is required")
+    private String status; // APPLIED, UNDER_REVIEW, SHORTLISTED, INTERVIEW_SCHEDULED, REJECTED, HIRED
+
+    private String recruiterNotes;
+    private String interviewDate; // ISO date format
+}
@@ -0,0 +1,42 @@
+package com.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a batch application status update
+ *
+ * results holds one entry per distinct requested application ID, in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationBatchStatusUpdateResult {
+
+    private String status;
+    private int updated;
+    private int notFound;
+    private int forbidden;
+    private List<Item> results;
+
+    public enum Outcome {
+        UPDATED, NOT_FOUND, FORBIDDEN
+    }
+
+    /**
+     * Outcome for a single application
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        private Long applicationId;
+        private Outcome outcome;
+    }
+}
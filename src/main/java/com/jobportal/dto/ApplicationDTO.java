@@ -1,5 +1,6 @@
 package com.jobportal.dto;
 
+import com.jobportal.model.ApplicationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -39,4 +40,17 @@ public class ApplicationDTO {
     private String applicantSkills;
 
     private LocalDateTime createdAt;
+
+    /**
+     * Export projection (JPQL constructor expression in ApplicationRepository):
+     * every field except the cover letter TEXT column
+     */
+    public ApplicationDTO(Long applicationId, String resumeUrl, ApplicationStatus status, String recruiterNotes,
+            LocalDateTime appliedDate, LocalDateTime reviewedDate, LocalDateTime interviewDate, Long jobId,
+            String jobTitle, String companyName, String location, Long userId, String applicantName,
+            String applicantEmail, String applicantPhone, String applicantSkills, LocalDateTime createdAt) {
+        this(applicationId, null, resumeUrl, status.name(), recruiterNotes, appliedDate, reviewedDate,
+                interviewDate, jobId, jobTitle, companyName, location, userId, applicantName, applicantEmail,
+                applicantPhone, applicantSkills, createdAt);
+    }
 }
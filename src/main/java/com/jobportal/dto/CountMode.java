@@ -0,0 +1,14 @@
+package com.jobportal.dto;
+
+/**
+ * How a paginated listing reports its total
+ *
+ * EXACT - run a COUNT query (default Page behaviour)
+ * NONE - skip the count, fetch one extra row and report hasNext only
+ * APPROXIMATE - skip the COUNT query, report a cheap estimate of the total
+ */
+public enum CountMode {
+    EXACT,
+    NONE,
+    APPROXIMATE
+}
@@ -42,4 +42,35 @@ public class JobDTO {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Listing projection (JPQL constructor expression in JobRepository):
+     * every column except the description and requirements TEXT columns
+     */
+    public JobDTO(Long jobId, String title, String skills, String location, String jobType,
+            String experienceLevel, Double minSalary, Double maxSalary, String salaryCurrency,
+            Integer vacancies, LocalDate applicationDeadline, Boolean isActive, Boolean isRemote,
+            Integer viewsCount, Integer applicationsCount, Long recruiterId, String companyName,
+            String companyLogo, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.jobId = jobId;
+        this.title = title;
+        this.skills = skills;
+        this.location = location;
+        this.jobType = jobType;
+        this.experienceLevel = experienceLevel;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.salaryCurrency = salaryCurrency;
+        this.vacancies = vacancies;
+        this.applicationDeadline = applicationDeadline;
+        this.isActive = isActive;
+        this.isRemote = isRemote;
+        this.viewsCount = viewsCount;
+        this.applicationsCount = applicationsCount;
+        this.recruiterId = recruiterId;
+        this.companyName = companyName;
+        this.companyLogo = companyLogo;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,25 @@
+package com.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+/**
+ * DTO for job search results with facet counts
+ *
+ * facets maps a facet name (jobType, experienceLevel, location, isRemote)
+ * to the number of matching jobs per value
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFacetedSearchResponse {
+
+    private Page<JobDTO> results;
+    private Map<String, Map<String, Long>> facets;
+}
@@ -19,11 +19,21 @@ public class JobSearchRequest {
     private String experienceLevel;
     private Double minSalary;
     private Double maxSalary;
+    private String salaryCurrency; // Currency of minSalary/maxSalary, defaults to INR; needs a configured rate
     private Boolean isRemote;
 
+    // Radius search: jobs within radiusKm of (latitude, longitude) or of the "near" place name
+    private String near;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+
     // Pagination
     private Integer page = 0;
     private Integer size = 10;
-    private String sortBy = "createdAt";
+    private String sortBy = "createdAt"; // or "relevance" to rank keyword/skill matches by score
     private String sortDirection = "DESC";
+
+    // Keyset pagination (POST /api/jobs/search/cursor); blank for the first page
+    private String cursor;
 }
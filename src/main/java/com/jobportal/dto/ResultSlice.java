@@ -0,0 +1,40 @@
+package com.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * DTO for a page of results whose total is optional
+ *
+ * totalElements is null for CountMode.NONE; totalApproximate is true when it
+ * is an estimate rather than an exact count.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultSlice<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+    private boolean totalApproximate;
+
+    public static <T> ResultSlice<T> of(Slice<T> slice, Long totalElements, boolean totalApproximate) {
+        return ResultSlice.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .totalElements(totalElements)
+                .totalApproximate(totalApproximate)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a search box suggestion
+ *
+ * type is one of TITLE, SKILL, LOCATION, COMPANY; count is the number of
+ * active jobs the suggestion occurs in
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDTO {
+
+    private String text;
+    private String type;
+    private long count;
+}
@@ -0,0 +1,23 @@
+package com.jobportal.event;
+
+import com.jobportal.search.JobDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by JobService whenever a job is created, updated, deleted or toggled
+ *
+ * previous is null for newly created jobs. Listeners that keep derived state
+ * (search index, caches) consume it after the surrounding transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class JobChangedEvent {
+
+    private final JobDocument previous;
+    private final JobDocument current;
+
+    public Long getJobId() {
+        return current != null ? current.getJobId() : previous.getJobId();
+    }
+}
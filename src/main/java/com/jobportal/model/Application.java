@@ -24,6 +24,7 @@ import java.time.LocalDateTime;
     @UniqueConstraint(columnNames = {"user_id", "job_id"}, name = "uk_user_job_application")
 }, indexes = {
     @Index(name = "idx_application_status", columnList = "status"),
+    @Index(name = "idx_application_user_status", columnList = "user_id, status"),
     @Index(name = "idx_application_date", columnList = "applied_date")
 })
 @Data
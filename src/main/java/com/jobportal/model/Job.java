@@ -26,7 +26,9 @@ import java.util.List;
 @Table(name = "jobs", indexes = {
     @Index(name = "idx_job_title", columnList = "title"),
     @Index(name = "idx_job_location", columnList = "location"),
-    @Index(name = "idx_job_status", columnList = "is_active")
+    @Index(name = "idx_job_status", columnList = "is_active"),
+    @Index(name = "idx_job_active_created", columnList = "is_active, created_at, job_id"),
+    @Index(name = "idx_job_recruiter_created", columnList = "recruiter_id, created_at, job_id")
 })
 @Data
 @NoArgsConstructor
@@ -85,10 +87,11 @@ public class Job {
     @Column(name = "is_remote")
     private Boolean isRemote = false;
 
-    @Column(name = "views_count")
+    // Written only by the counter buffers, so saving an edited job cannot overwrite a concurrent flush
+    @Column(name = "views_count", updatable = false)
     private Integer viewsCount = 0;
 
-    @Column(name = "applications_count")
+    @Column(name = "applications_count", updatable = false)
     private Integer applicationsCount = 0;
 
     // Many-to-One relationship with Recruiter
@@ -1,19 +1,28 @@
 package com.jobportal.repository;
 
+import com.jobportal.dto.ApplicationDTO;
 import com.jobportal.model.Application;
 import com.jobportal.model.ApplicationStatus;
 import com.jobportal.model.Job;
 import com.jobportal.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Application Repository - Data Access Layer for Application Entity
@@ -28,13 +37,15 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     // Find applications by user (job seeker)
     List<Application> findByUser(User user);
 
-    // Find applications by user with pagination
+    // Find applications by user with pagination (applicant, job and company fetched in the same query)
+    @EntityGraph(attributePaths = {"user", "job", "job.recruiter"})
     Page<Application> findByUser(User user, Pageable pageable);
 
     // Find applications by job
     List<Application> findByJob(Job job);
 
-    // Find applications by job with pagination
+    // Find applications by job with pagination (applicant, job and company fetched in the same query)
+    @EntityGraph(attributePaths = {"user", "job", "job.recruiter"})
     Page<Application> findByJob(Job job, Pageable pageable);
 
     // Find application by user and job (to prevent duplicate applications)
@@ -56,10 +67,50 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT a FROM Application a WHERE a.job.recruiter.recruiterId = :recruiterId")
     List<Application> findByRecruiterId(@Param("recruiterId") Long recruiterId);
 
-    // Find applications for recruiter's jobs with pagination
+    // Find applications for recruiter's jobs with pagination (applicant, job and company fetched in the same query)
+    @EntityGraph(attributePaths = {"user", "job", "job.recruiter"})
     @Query("SELECT a FROM Application a WHERE a.job.recruiter.recruiterId = :recruiterId")
     Page<Application> findByRecruiterId(@Param("recruiterId") Long recruiterId, Pageable pageable);
 
+    // Find applications for recruiter's jobs as a slice (no COUNT query)
+    @EntityGraph(attributePaths = {"user", "job", "job.recruiter"})
+    @Query("SELECT a FROM Application a WHERE a.job.recruiter.recruiterId = :recruiterId")
+    Slice<Application> findSliceByRecruiterId(@Param("recruiterId") Long recruiterId, Pageable pageable);
+
+    // Find [applicationId, owning recruiter's userId] for the given applications (missing IDs are absent)
+    @Query("SELECT a.applicationId, r.user.userId FROM Application a JOIN a.job j JOIN j.recruiter r " +
+           "WHERE a.applicationId IN :ids")
+    List<Object[]> findRecruiterUserIdsByApplicationIds(@Param("ids") Collection<Long> ids);
+
+    // Set the status of several applications at once (notes and interview date kept when null)
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.reviewedDate = :reviewedDate, " +
+           "a.updatedAt = :reviewedDate, a.recruiterNotes = COALESCE(CAST(:recruiterNotes AS String), a.recruiterNotes), " +
+           "a.interviewDate = COALESCE(CAST(:interviewDate AS LocalDateTime), a.interviewDate) WHERE a.applicationId IN :ids")
+    int updateStatusByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ApplicationStatus status,
+            @Param("recruiterNotes") String recruiterNotes,
+            @Param("interviewDate") LocalDateTime interviewDate,
+            @Param("reviewedDate") LocalDateTime reviewedDate);
+
+    // Stream all applications for recruiter's jobs as export rows (forward-only, nothing attached to the persistence context)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.jobportal.dto.ApplicationDTO(a.applicationId, a.resumeUrl, a.status, a.recruiterNotes, " +
+           "a.appliedDate, a.reviewedDate, a.interviewDate, j.jobId, j.title, r.companyName, j.location, " +
+           "u.userId, u.name, u.email, u.phone, u.skills, a.createdAt) " +
+           "FROM Application a JOIN a.job j JOIN j.recruiter r JOIN a.user u " +
+           "WHERE r.recruiterId = :recruiterId ORDER BY a.applicationId")
+    Stream<ApplicationDTO> streamExportRowsByRecruiterId(@Param("recruiterId") Long recruiterId);
+
+    // Count applications for recruiter's jobs
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.job.recruiter.recruiterId = :recruiterId")
+    long countByRecruiterId(@Param("recruiterId") Long recruiterId);
+
     // Find applications for recruiter's jobs by status
     @Query("SELECT a FROM Application a WHERE a.job.recruiter.recruiterId = :recruiterId AND a.status = :status")
     List<Application> findByRecruiterIdAndStatus(
@@ -69,6 +120,14 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     // Count applications by user
     Long countByUser(User user);
 
+    // Count applications of a user with the given status
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.user.userId = :userId AND a.status = :status")
+    long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ApplicationStatus status);
+
+    // Get application statistics for a job seeker (rows of [status, count])
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.user.userId = :userId GROUP BY a.status")
+    List<Object[]> getApplicationStatsByUser(@Param("userId") Long userId);
+
     // Count applications by job
     Long countByJob(Job job);
 
@@ -1,9 +1,11 @@
 package com.jobportal.repository;
 
+import com.jobportal.dto.JobDTO;
 import com.jobportal.model.Job;
 import com.jobportal.model.Recruiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +13,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,18 +27,77 @@ import java.util.List;
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    // Listing projection: JobDTO without description/requirements, recruiter columns joined in the same query
+    String JOB_LISTING = "SELECT new com.jobportal.dto.JobDTO(j.jobId, j.title, j.skills, j.location, j.jobType, " +
+           "j.experienceLevel, j.minSalary, j.maxSalary, j.salaryCurrency, j.vacancies, j.applicationDeadline, " +
+           "j.isActive, j.isRemote, j.viewsCount, j.applicationsCount, r.recruiterId, r.companyName, " +
+           "r.companyLogo, j.createdAt, j.updatedAt) FROM Job j JOIN j.recruiter r ";
+
     // Find all active jobs
     List<Job> findByIsActiveTrue();
 
     // Find all active jobs with pagination
     Page<Job> findByIsActiveTrue(Pageable pageable);
 
+    // Active job listings with pagination
+    @Query(value = JOB_LISTING + "WHERE j.isActive = true",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.isActive = true")
+    Page<JobDTO> findActiveJobListings(Pageable pageable);
+
+    // Active job listings as a slice (fetches one extra row instead of running a COUNT query)
+    @Query(JOB_LISTING + "WHERE j.isActive = true")
+    Slice<JobDTO> findActiveJobListingsSlice(Pageable pageable);
+
+    // Job listings by ID (hydrates search index results), in no particular order
+    @Query(JOB_LISTING + "WHERE j.jobId IN :jobIds")
+    List<JobDTO> findJobListingsByIds(@Param("jobIds") Collection<Long> jobIds);
+
+    // Find all active jobs with their recruiter (for building the search index)
+    @Query("SELECT j FROM Job j JOIN FETCH j.recruiter WHERE j.isActive = true")
+    List<Job> findActiveJobsWithRecruiter();
+
+    // Keyset pagination: newest active jobs (first page)
+    @Query(JOB_LISTING + "WHERE j.isActive = true ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobDTO> findActiveJobsNewestFirst(Pageable pageable);
+
+    // Keyset pagination: active jobs after the (createdAt, jobId) position
+    @Query(JOB_LISTING + "WHERE j.isActive = true " +
+           "AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId)) " +
+           "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobDTO> findActiveJobsAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("jobId") Long jobId,
+            Pageable pageable);
+
     // Find jobs by recruiter
     List<Job> findByRecruiter(Recruiter recruiter);
 
     // Find jobs by recruiter with pagination
     Page<Job> findByRecruiter(Recruiter recruiter, Pageable pageable);
 
+    // Job listings of a recruiter with pagination
+    @Query(value = JOB_LISTING + "WHERE j.recruiter = :recruiter",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.recruiter = :recruiter")
+    Page<JobDTO> findJobListingsByRecruiter(@Param("recruiter") Recruiter recruiter, Pageable pageable);
+
+    // All job listings of a recruiter (refreshes search snapshots after a company rename)
+    @Query(JOB_LISTING + "WHERE j.recruiter = :recruiter")
+    List<JobDTO> findAllJobListingsByRecruiter(@Param("recruiter") Recruiter recruiter);
+
+    // Keyset pagination: newest jobs of a recruiter (first page)
+    @Query(JOB_LISTING + "WHERE j.recruiter = :recruiter ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobDTO> findByRecruiterNewestFirst(@Param("recruiter") Recruiter recruiter, Pageable pageable);
+
+    // Keyset pagination: jobs of a recruiter after the (createdAt, jobId) position
+    @Query(JOB_LISTING + "WHERE j.recruiter = :recruiter " +
+           "AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId)) " +
+           "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<JobDTO> findByRecruiterAfter(
+            @Param("recruiter") Recruiter recruiter,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("jobId") Long jobId,
+            Pageable pageable);
+
     // Find active jobs by recruiter
     List<Job> findByRecruiterAndIsActiveTrue(Recruiter recruiter);
 
@@ -42,6 +105,10 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE j.isActive = true AND LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))")
     Page<Job> searchByTitle(@Param("title") String title, Pageable pageable);
 
+    // Job listings whose title contains the given text (case-insensitive)
+    @Query(JOB_LISTING + "WHERE j.isActive = true AND LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<JobDTO> searchJobListingsByTitle(@Param("title") String title, Pageable pageable);
+
     // Search jobs by location
     @Query("SELECT j FROM Job j WHERE j.isActive = true AND LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))")
     Page<Job> searchByLocation(@Param("location") String location, Pageable pageable);
@@ -50,21 +117,6 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE j.isActive = true AND LOWER(j.skills) LIKE LOWER(CONCAT('%', :skill, '%'))")
     Page<Job> searchBySkill(@Param("skill") String skill, Pageable pageable);
 
-    // Advanced search with multiple criteria
-    @Query("SELECT j FROM Job j WHERE j.isActive = true " +
-           "AND (:title IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
-           "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
-           "AND (:skill IS NULL OR LOWER(j.skills) LIKE LOWER(CONCAT('%', :skill, '%'))) " +
-           "AND (:jobType IS NULL OR j.jobType = :jobType) " +
-           "AND (:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel)")
-    Page<Job> advancedSearch(
-            @Param("title") String title,
-            @Param("location") String location,
-            @Param("skill") String skill,
-            @Param("jobType") String jobType,
-            @Param("experienceLevel") String experienceLevel,
-            Pageable pageable);
-
     // Find jobs by job type
     List<Job> findByJobTypeAndIsActiveTrue(String jobType);
 
@@ -89,6 +141,14 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     // Count jobs by recruiter
     Long countByRecruiter(Recruiter recruiter);
 
+    // Count a recruiter's jobs grouped by active flag (rows of [isActive, count])
+    @Query("SELECT j.isActive, COUNT(j) FROM Job j WHERE j.recruiter.recruiterId = :recruiterId GROUP BY j.isActive")
+    List<Object[]> countByRecruiterGroupByActive(@Param("recruiterId") Long recruiterId);
+
+    // View count and active flag of active or viewed jobs (rows of [jobId, viewsCount, isActive])
+    @Query("SELECT j.jobId, j.viewsCount, j.isActive FROM Job j WHERE j.isActive = true OR j.viewsCount > 0")
+    List<Object[]> findViewCounts();
+
     // Increment view count
     @Modifying
     @Query("UPDATE Job j SET j.viewsCount = j.viewsCount + 1 WHERE j.jobId = :jobId")
@@ -100,10 +160,10 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     void incrementApplicationCount(@Param("jobId") Long jobId);
 
     // Find most viewed jobs
-    @Query("SELECT j FROM Job j WHERE j.isActive = true ORDER BY j.viewsCount DESC")
-    List<Job> findMostViewedJobs(Pageable pageable);
+    @Query(JOB_LISTING + "WHERE j.isActive = true ORDER BY j.viewsCount DESC")
+    List<JobDTO> findMostViewedJobs(Pageable pageable);
 
     // Find recently posted jobs
-    @Query("SELECT j FROM Job j WHERE j.isActive = true ORDER BY j.createdAt DESC")
-    List<Job> findRecentJobs(Pageable pageable);
+    @Query(JOB_LISTING + "WHERE j.isActive = true ORDER BY j.createdAt DESC")
+    List<JobDTO> findRecentJobs(Pageable pageable);
 }
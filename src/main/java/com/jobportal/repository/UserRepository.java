@@ -40,8 +40,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Find all active users by role
     List<User> findByRoleAndIsActiveTrue(Role role);
 
-    // Search users by name (case-insensitive)
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    // Search active users by name (case-insensitive)
+    @Query("SELECT u FROM User u WHERE u.isActive = true AND LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<User> searchByName(@Param("name") String name);
 
     // Search users by name and role
@@ -0,0 +1,351 @@
+package com.jobportal.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fuzzy Index - typo-tolerant name lookup backed by a trigram index
+ *
+ * Every word of an indexed name is padded ("$developer$") and split into
+ * trigrams; each trigram keeps the IDs of the names containing it. A query
+ * collects candidates in two ways. Names containing every interior
+ * (unpadded) trigram of the query words are always candidates, so no
+ * substring match is ever crowded out. On top of that, shared trigrams are
+ * counted rarest first within MAX_POSTINGS_SCANNED postings and the
+ * MAX_CANDIDATES names sharing the most are kept for typo matching.
+ * Candidates are scored: exact name match, then substring match (the former
+ * LIKE semantics), then names whose words are all within a small edit
+ * distance of the query words. Queries the bounds cannot answer completely
+ * (a rarest trigram too common to scan, or words too short to have interior
+ * trigrams) are left to the caller's substring search. Query cost therefore
+ * depends on those bounds, not on the number of names.
+ *
+ * Thread-safe.
+ */
+public class FuzzyIndex {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int MAX_POSTINGS_SCANNED = 20_000;
+    private static final int MAX_CANDIDATES = 200;
+
+    private static final int TIER_EXACT = 0;
+    private static final int TIER_CONTAINS = 1;
+    private static final int TIER_FUZZY = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * Replace the whole content of the index (id -> name)
+     */
+    public void replaceAll(Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            names.forEach(this::add);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace one name
+     */
+    public void put(Long id, String name) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+            add(id, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of the names matching the query, best first, at most limit.
+     * Returns empty when the index is not built yet, the query is shorter
+     * than MIN_QUERY_LENGTH, has no interior trigram, or its rarest trigram is
+     * too common to scan within MAX_POSTINGS_SCANNED, and the caller should
+     * use a plain substring search.
+     */
+    public Optional<List<Long>> search(String query, int limit) {
+        List<String> queryTokens = TextAnalyzer.tokenize(query);
+        String normalizedQuery = String.join(" ", queryTokens);
+        if (!ready || normalizedQuery.length() < MIN_QUERY_LENGTH) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> candidates = candidates(queryTokens);
+            if (candidates == null) {
+                return Optional.empty();
+            }
+            List<Match> matches = new ArrayList<>();
+            for (Map.Entry<Long, Integer> candidate : candidates.entrySet()) {
+                Entry entry = entries.get(candidate.getKey());
+                Match match = score(candidate.getKey(), entry, normalizedQuery, queryTokens, candidate.getValue());
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+            matches.sort(Comparator.comparingInt(Match::getTier)
+                    .thenComparingInt(Match::getDistance)
+                    .thenComparing(Comparator.comparingInt(Match::getSharedTrigrams).reversed())
+                    .thenComparingInt(Match::getLength)
+                    .thenComparing(Match::getId));
+
+            List<Long> ids = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                ids.add(matches.get(i).getId());
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Candidate names with their number of shared trigrams: every name that
+     * can contain the query, plus the names sharing the most trigrams (counted
+     * rarest first within the scan budget). Returns null when the substring
+     * candidates cannot be determined within the budget. Caller must hold the
+     * read lock.
+     */
+    private Map<Long, Integer> candidates(List<String> queryTokens) {
+        Set<Long> containing = containingCandidates(queryTokens);
+        if (containing == null) {
+            return null;
+        }
+        Set<String> queryTrigrams = trigrams(queryTokens);
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String trigram : queryTrigrams) {
+            Set<Long> posting = postings.get(trigram);
+            if (posting != null) {
+                lists.add(posting);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        if (!lists.isEmpty() && lists.get(0).size() > MAX_POSTINGS_SCANNED) {
+            return null;
+        }
+
+        Map<Long, Integer> shared = new HashMap<>();
+        int budget = MAX_POSTINGS_SCANNED;
+        for (Set<Long> posting : lists) {
+            if (posting.size() > budget) {
+                break;
+            }
+            budget -= posting.size();
+            for (Long id : posting) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Integer> candidate : shared.entrySet()) {
+            heap.offer(candidate);
+            if (heap.size() > MAX_CANDIDATES) {
+                heap.poll();
+            }
+        }
+        Map<Long, Integer> candidates = new HashMap<>();
+        for (Map.Entry<Long, Integer> candidate : heap) {
+            candidates.put(candidate.getKey(), candidate.getValue());
+        }
+        for (Long id : containing) {
+            candidates.computeIfAbsent(id, key -> sharedTrigrams(entries.get(key), queryTrigrams));
+        }
+        return candidates;
+    }
+
+    /**
+     * Names containing every interior trigram of the query words: a superset
+     * of the names the query is a substring of. Returns null when no query
+     * word has an interior trigram or the rarest one is too common to scan.
+     * Caller must hold the read lock.
+     */
+    private Set<Long> containingCandidates(List<String> queryTokens) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : queryTokens) {
+            for (int i = 0; i + 3 <= token.length(); i++) {
+                Set<Long> posting = postings.get(token.substring(i, i + 3));
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        if (lists.isEmpty() || lists.get(0).size() > MAX_POSTINGS_SCANNED) {
+            return null;
+        }
+        Set<Long> containing = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !containing.isEmpty(); i++) {
+            containing.retainAll(lists.get(i));
+        }
+        return containing;
+    }
+
+    private static int sharedTrigrams(Entry entry, Set<String> queryTrigrams) {
+        int shared = 0;
+        for (String trigram : queryTrigrams) {
+            if (entry.getTrigrams().contains(trigram)) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    private static Match score(Long id, Entry entry, String normalizedQuery, List<String> queryTokens,
+            int sharedTrigrams) {
+        if (entry.getNormalized().equals(normalizedQuery)) {
+            return new Match(id, TIER_EXACT, 0, sharedTrigrams, entry.getNormalized().length());
+        }
+        if (entry.getNormalized().contains(normalizedQuery)) {
+            return new Match(id, TIER_CONTAINS, 0, sharedTrigrams, entry.getNormalized().length());
+        }
+        int distance = 0;
+        for (String queryToken : queryTokens) {
+            int maxEdits = maxEdits(queryToken);
+            int best = maxEdits + 1;
+            for (String token : entry.getTokens()) {
+                best = Math.min(best, editDistance(queryToken, token, maxEdits));
+            }
+            if (best > maxEdits) {
+                return null;
+            }
+            distance += best;
+        }
+        return new Match(id, TIER_FUZZY, distance, sharedTrigrams, entry.getNormalized().length());
+    }
+
+    // Typos allowed per query word
+    private static int maxEdits(String token) {
+        if (token.length() <= 2) {
+            return 0;
+        }
+        return token.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Levenshtein distance, or max + 1 as soon as it is known to exceed max
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static Set<String> trigrams(List<String> tokens) {
+        Set<String> trigrams = new HashSet<>();
+        for (String token : tokens) {
+            String padded = "$" + token + "$";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private void add(Long id, String name) {
+        List<String> tokens = TextAnalyzer.tokenize(name);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        Set<String> trigrams = trigrams(tokens);
+        entries.put(id, new Entry(String.join(" ", tokens), tokens, trigrams));
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void delete(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String trigram : entry.getTrigrams()) {
+            Set<Long> posting = postings.get(trigram);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * An indexed name: normalized text, its words and its trigrams
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Entry {
+
+        private final String normalized;
+        private final List<String> tokens;
+        private final Set<String> trigrams;
+    }
+
+    /**
+     * A scored candidate
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Match {
+
+        private final Long id;
+        private final int tier;
+        private final int distance;
+        private final int sharedTrigrams;
+        private final int length;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobSearchRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Gazetteer - resolves free-text place names to coordinates
+ *
+ * Backed by the bundled gazetteer/cities.csv (name, country, latitude,
+ * longitude, aliases), so no external geocoding service is involved. A free
+ * text location such as "Bangalore, India" or "Pune / Remote" resolves to the
+ * first part that names a known place.
+ */
+@Slf4j
+@Component
+public class Gazetteer {
+
+    private static final String RESOURCE = "gazetteer/cities.csv";
+    private static final Pattern PART_SEPARATORS = Pattern.compile("[,/;|()]");
+
+    private final Map<String, GeoPoint> places = new HashMap<>();
+
+    public Gazetteer() {
+        ClassPathResource resource = new ClassPathResource(RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                GeoPoint point = new GeoPoint(Double.parseDouble(columns[2]), Double.parseDouble(columns[3]));
+                places.put(key(columns[0]), point);
+                if (columns.length > 4) {
+                    for (String alias : columns[4].split(";")) {
+                        if (StringUtils.hasText(alias)) {
+                            places.putIfAbsent(key(alias), point);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + RESOURCE, e);
+        }
+        log.info("Gazetteer loaded with {} place names", places.size());
+    }
+
+    /**
+     * Resolve a free-text location to coordinates
+     */
+    public Optional<GeoPoint> resolve(String location) {
+        if (!StringUtils.hasText(location)) {
+            return Optional.empty();
+        }
+        GeoPoint whole = places.get(key(location));
+        if (whole != null) {
+            return Optional.of(whole);
+        }
+        for (String part : PART_SEPARATORS.split(location)) {
+            GeoPoint point = places.get(key(part));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Coordinates of a job: its location, or its company's headquarters when
+     * the location cannot be resolved (e.g. "Remote")
+     */
+    public Optional<GeoPoint> resolve(JobDocument document) {
+        Optional<GeoPoint> point = resolve(document.getLocation());
+        return point.isPresent() ? point : resolve(document.getHeadquarters());
+    }
+
+    /**
+     * Centre of a radius search: explicit coordinates, otherwise the "near" place
+     */
+    public Optional<GeoPoint> center(JobSearchRequest request) {
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            return Optional.of(new GeoPoint(request.getLatitude(), request.getLongitude()));
+        }
+        return resolve(request.getNear());
+    }
+
+    private static String key(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobportal.search;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Spatial grid of the job search index
+ *
+ * Buckets documents into fixed latitude/longitude cells. A radius query only
+ * visits the cells overlapping the circle's bounding box and checks the exact
+ * distance for the documents found there, never for the whole index.
+ *
+ * Not thread-safe; guarded by the JobSearchIndex lock.
+ */
+final class GeoGrid {
+
+    private static final double CELL_DEGREES = 0.25;
+    private static final double KM_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_KM / 180;
+
+    private final Map<Long, BitSet> cells = new HashMap<>();
+
+    void add(int doc, GeoPoint point) {
+        if (point != null) {
+            cells.computeIfAbsent(cellKey(row(point.getLatitude()), wrap(column(point.getLongitude()))), k -> new BitSet())
+                    .set(doc);
+        }
+    }
+
+    void remove(int doc, GeoPoint point) {
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(row(point.getLatitude()), wrap(column(point.getLongitude())));
+        BitSet cell = cells.get(key);
+        if (cell != null) {
+            cell.clear(doc);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        cells.clear();
+    }
+
+    /**
+     * Documents within radiusKm of the centre; points resolves a document's coordinates
+     */
+    BitSet within(GeoPoint center, double radiusKm, IntFunction<GeoPoint> points) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double cosLatitude = Math.max(0.01, Math.cos(Math.toRadians(
+                Math.min(89.0, Math.abs(center.getLatitude()) + latitudeDelta))));
+        double longitudeDelta = Math.min(180.0, radiusKm / (KM_PER_DEGREE * cosLatitude));
+
+        BitSet result = new BitSet();
+        int fromRow = row(Math.max(-90.0, center.getLatitude() - latitudeDelta));
+        int toRow = row(Math.min(90.0, center.getLatitude() + latitudeDelta));
+        int fromColumn = column(center.getLongitude() - longitudeDelta);
+        int toColumn = column(center.getLongitude() + longitudeDelta);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                BitSet cell = cells.get(cellKey(row, wrap(column)));
+                if (cell == null) {
+                    continue;
+                }
+                for (int doc = cell.nextSetBit(0); doc >= 0; doc = cell.nextSetBit(doc + 1)) {
+                    if (center.distanceKm(points.apply(doc)) <= radiusKm) {
+                        result.set(doc);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    // Columns past the antimeridian continue on the other side
+    private static int wrap(int column) {
+        int columns = (int) Math.round(360 / CELL_DEGREES);
+        int first = column(-180.0);
+        return Math.floorMod(column - first, columns) + first;
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobportal.search;
+
+import lombok.Value;
+
+/**
+ * A latitude/longitude pair in degrees
+ */
+@Value
+public class GeoPoint {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    double latitude;
+    double longitude;
+
+    /**
+     * Great-circle (haversine) distance in kilometres
+     */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobDTO;
+import com.jobportal.model.Job;
+import com.jobportal.model.Recruiter;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of the Job fields used by the in-memory search structures
+ *
+ * Taken inside the transaction that loaded the entity so that index updates
+ * applied after commit never touch lazy associations.
+ *
+ * Snapshots taken from a job listing carry no description or requirements
+ * (a job always has a description otherwise); JobSearchIndex then keeps the
+ * text statistics it already has for the job.
+ */
+@Value
+@Builder(toBuilder = true)
+public class JobDocument {
+
+    Long jobId;
+    String title;
+    String description;
+    String requirements;
+    String location;
+    String skills;
+    String jobType;
+    String experienceLevel;
+    Double minSalary;
+    Double maxSalary;
+    String salaryCurrency;
+    Integer vacancies;
+    LocalDate applicationDeadline;
+    boolean remote;
+    boolean active;
+    Long recruiterId;
+    String companyName;
+    String headquarters;
+    // Counters as loaded; JobSearchIndex keeps its copies current from the counter buffers
+    long viewsCount;
+    long applicationsCount;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    /**
+     * Create a snapshot from a managed Job entity
+     */
+    public static JobDocument from(Job job) {
+        Recruiter recruiter = job.getRecruiter();
+        return JobDocument.builder()
+                .jobId(job.getJobId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .requirements(job.getRequirements())
+                .location(job.getLocation())
+                .skills(job.getSkills())
+                .jobType(job.getJobType())
+                .experienceLevel(job.getExperienceLevel())
+                .minSalary(job.getMinSalary())
+                .maxSalary(job.getMaxSalary())
+                .salaryCurrency(job.getSalaryCurrency())
+                .vacancies(job.getVacancies())
+                .applicationDeadline(job.getApplicationDeadline())
+                .remote(Boolean.TRUE.equals(job.getIsRemote()))
+                .active(Boolean.TRUE.equals(job.getIsActive()))
+                .recruiterId(recruiter != null ? recruiter.getRecruiterId() : null)
+                .companyName(recruiter != null ? recruiter.getCompanyName() : null)
+                .headquarters(recruiter != null ? recruiter.getHeadquarters() : null)
+                .viewsCount(job.getViewsCount() != null ? job.getViewsCount() : 0)
+                .applicationsCount(job.getApplicationsCount() != null ? job.getApplicationsCount() : 0)
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Create a snapshot without the long text fields from a job listing
+     */
+    public static JobDocument from(JobDTO job, String headquarters) {
+        return JobDocument.builder()
+                .jobId(job.getJobId())
+                .title(job.getTitle())
+                .location(job.getLocation())
+                .skills(job.getSkills())
+                .jobType(job.getJobType())
+                .experienceLevel(job.getExperienceLevel())
+                .minSalary(job.getMinSalary())
+                .maxSalary(job.getMaxSalary())
+                .salaryCurrency(job.getSalaryCurrency())
+                .vacancies(job.getVacancies())
+                .applicationDeadline(job.getApplicationDeadline())
+                .remote(Boolean.TRUE.equals(job.getIsRemote()))
+                .active(Boolean.TRUE.equals(job.getIsActive()))
+                .recruiterId(job.getRecruiterId())
+                .companyName(job.getCompanyName())
+                .headquarters(headquarters)
+                .viewsCount(job.getViewsCount() != null ? job.getViewsCount() : 0)
+                .applicationsCount(job.getApplicationsCount() != null ? job.getApplicationsCount() : 0)
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.jobportal.search;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Structured filters of the job search index
+ *
+ * Keeps one bitmap per jobType and experienceLevel value and one for remote
+ * jobs, plus sorted salary columns in the base currency. Combining filters is
+ * a sequence of bitmap intersections over the dense document numbers handed
+ * out by JobSearchIndex.
+ *
+ * Not thread-safe; guarded by the JobSearchIndex lock.
+ */
+final class JobFilterBitmaps {
+
+    private static final BitSet NONE = new BitSet();
+
+    private final Map<String, BitSet> jobTypes = new HashMap<>();
+    private final Map<String, BitSet> experienceLevels = new HashMap<>();
+    private final BitSet remote = new BitSet();
+    private final SalaryColumn minSalaries = new SalaryColumn();
+    private final SalaryColumn maxSalaries = new SalaryColumn();
+
+    void add(int doc, JobDocument document, double minSalary, double maxSalary) {
+        if (document.getJobType() != null) {
+            jobTypes.computeIfAbsent(document.getJobType(), v -> new BitSet()).set(doc);
+        }
+        if (document.getExperienceLevel() != null) {
+            experienceLevels.computeIfAbsent(document.getExperienceLevel(), v -> new BitSet()).set(doc);
+        }
+        if (document.isRemote()) {
+            remote.set(doc);
+        }
+        minSalaries.add(doc, minSalary);
+        maxSalaries.add(doc, maxSalary);
+    }
+
+    /**
+     * Add many documents at once (initial build): categorical bitmaps per
+     * document, salary columns sorted once instead of one insert per document
+     */
+    void load(int[] docs, JobDocument[] documents, double[] minSalaryValues, double[] maxSalaryValues) {
+        clear();
+        for (int i = 0; i < docs.length; i++) {
+            add(docs[i], documents[i], Double.NaN, Double.NaN);
+        }
+        minSalaries.load(docs, minSalaryValues);
+        maxSalaries.load(docs, maxSalaryValues);
+    }
+
+    void remove(int doc, JobDocument document, double minSalary, double maxSalary) {
+        clearValue(jobTypes, document.getJobType(), doc);
+        clearValue(experienceLevels, document.getExperienceLevel(), doc);
+        remote.clear(doc);
+        minSalaries.remove(doc, minSalary);
+        maxSalaries.remove(doc, maxSalary);
+    }
+
+    void clear() {
+        jobTypes.clear();
+        experienceLevels.clear();
+        remote.clear();
+        minSalaries.clear();
+        maxSalaries.clear();
+    }
+
+    /**
+     * Narrow matches by the structured criteria; null (or NaN for salaries) means "any"
+     */
+    void filter(BitSet matches, String jobType, String experienceLevel, Boolean isRemote,
+            double minSalary, double maxSalary) {
+        if (jobType != null) {
+            matches.and(jobTypes.getOrDefault(jobType, NONE));
+        }
+        if (experienceLevel != null) {
+            matches.and(experienceLevels.getOrDefault(experienceLevel, NONE));
+        }
+        if (isRemote != null) {
+            if (isRemote) {
+                matches.and(remote);
+            } else {
+                matches.andNot(remote);
+            }
+        }
+        // Same semantics as JobRepository.findBySalaryRange: the posted range lies within the requested one
+        if (!Double.isNaN(minSalary) && !matches.isEmpty()) {
+            matches.and(minSalaries.atLeast(minSalary));
+        }
+        if (!Double.isNaN(maxSalary) && !matches.isEmpty()) {
+            matches.and(maxSalaries.atMost(maxSalary));
+        }
+    }
+
+    private static void clearValue(Map<String, BitSet> bitmaps, String value, int doc) {
+        if (value == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap != null) {
+            bitmap.clear(doc);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+}
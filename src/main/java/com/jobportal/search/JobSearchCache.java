@@ -0,0 +1,211 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobSearchRequest;
+import com.jobportal.event.JobChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job Search Cache - bounded cache of search results in front of JobSearchIndex
+ *
+ * Entries are keyed by the canonical SearchCacheKey and hold the leading job
+ * IDs of the result (up to max-hits-per-entry), the total and, once asked for,
+ * the facet counts; every page inside that window is served from the entry.
+ * Entries are evicted least-recently-used beyond max-entries and after the TTL.
+ * A committed job change only drops the entries whose criteria match the job
+ * before or after the change. Searches sorted by view or application counts
+ * are not cached, since those change without a JobChangedEvent.
+ *
+ * Exposes jobportal.search.cache.requests (result=hit|miss),
+ * jobportal.search.cache.evictions (cause=size|expired|invalidated) and
+ * jobportal.search.cache.size.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Component
+public class JobSearchCache {
+
+    private final JobSearchIndex jobSearchIndex;
+    private final SalaryNormalizer salaryNormalizer;
+    private final Gazetteer gazetteer;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final int maxHitsPerEntry;
+
+    private final Map<SearchCacheKey, CachedResult> entries;
+    // Bumped on every job change; results computed across a change are not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public JobSearchCache(JobSearchIndex jobSearchIndex,
+            SalaryNormalizer salaryNormalizer,
+            Gazetteer gazetteer,
+            MeterRegistry meterRegistry,
+            @Value("${jobportal.search.cache.max-entries:500}") int maxEntries,
+            @Value("${jobportal.search.cache.ttl:5m}") Duration ttl,
+            @Value("${jobportal.search.cache.max-hits-per-entry:100}") int maxHitsPerEntry) {
+        this.jobSearchIndex = jobSearchIndex;
+        this.salaryNormalizer = salaryNormalizer;
+        this.gazetteer = gazetteer;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.maxHitsPerEntry = maxHitsPerEntry;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchCacheKey, CachedResult> eldest) {
+                if (size() > JobSearchCache.this.maxEntries) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = Counter.builder("jobportal.search.cache.requests").tag("result", "hit")
+                .description("Job searches answered from the search cache").register(meterRegistry);
+        this.misses = Counter.builder("jobportal.search.cache.requests").tag("result", "miss")
+                .description("Job searches resolved by the search index").register(meterRegistry);
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.expiredEvictions = evictionCounter(meterRegistry, "expired");
+        this.invalidations = evictionCounter(meterRegistry, "invalidated");
+        Gauge.builder("jobportal.search.cache.size", this, JobSearchCache::size)
+                .description("Entries in the job search cache").register(meterRegistry);
+    }
+
+    /**
+     * Resolve one page of matching job IDs, from the cache when possible.
+     * Same contract as JobSearchIndex.search.
+     */
+    public SearchHits search(JobSearchRequest request, Pageable pageable, boolean includeFacets) {
+        long end = pageable.getOffset() + pageable.getPageSize();
+        if (end > maxHitsPerEntry || JobSearchIndex.isCounterSort(request.getSortBy())) {
+            // Deep pages are outside the cached window; counter orders change with every flush
+            return jobSearchIndex.search(request, pageable, includeFacets);
+        }
+
+        SearchCacheKey key = SearchCacheKey.of(request, salaryNormalizer, gazetteer);
+        CachedResult cached = get(key);
+        if (cached != null && (!includeFacets || cached.facets != null)) {
+            hits.increment();
+            return cached.page(pageable);
+        }
+
+        misses.increment();
+        long observedGeneration = generation.get();
+        SearchHits window = jobSearchIndex.search(request, PageRequest.of(0, maxHitsPerEntry), includeFacets);
+        CachedResult result = new CachedResult(window.getJobIds(), window.getTotalHits(),
+                includeFacets ? window.getFacets() : null, System.nanoTime());
+        put(key, result, observedGeneration);
+        return result.page(pageable);
+    }
+
+    /**
+     * Drop the cached searches a committed job change could affect.
+     * Runs after JobSearchIndex has applied the change.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            Iterator<SearchCacheKey> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                SearchCacheKey key = keys.next();
+                if (affects(key, event.getPrevious()) || affects(key, event.getCurrent())) {
+                    keys.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove every entry
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean affects(SearchCacheKey key, JobDocument document) {
+        return document != null && key.matches(document, salaryNormalizer, gazetteer);
+    }
+
+    private CachedResult get(SearchCacheKey key) {
+        synchronized (entries) {
+            CachedResult cached = entries.get(key);
+            if (cached != null && System.nanoTime() - cached.createdAt >= ttlNanos) {
+                entries.remove(key);
+                expiredEvictions.increment();
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void put(SearchCacheKey key, CachedResult result, long observedGeneration) {
+        synchronized (entries) {
+            if (generation.get() == observedGeneration) {
+                entries.put(key, result);
+            }
+        }
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("jobportal.search.cache.evictions").tag("cause", cause)
+                .description("Entries removed from the job search cache").register(meterRegistry);
+    }
+
+    /**
+     * The leading job IDs of one search result
+     */
+    private static final class CachedResult {
+
+        private final List<Long> jobIds;
+        private final long totalHits;
+        private final Map<String, Map<String, Long>> facets;
+        private final long createdAt;
+
+        private CachedResult(List<Long> jobIds, long totalHits, Map<String, Map<String, Long>> facets,
+                long createdAt) {
+            this.jobIds = List.copyOf(jobIds);
+            this.totalHits = totalHits;
+            this.facets = facets;
+            this.createdAt = createdAt;
+        }
+
+        private SearchHits page(Pageable pageable) {
+            int from = (int) Math.min(pageable.getOffset(), jobIds.size());
+            int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), jobIds.size());
+            return new SearchHits(jobIds.subList(from, to), totalHits, facets != null ? facets : Map.of());
+        }
+    }
+}
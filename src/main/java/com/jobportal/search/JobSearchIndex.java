@@ -0,0 +1,747 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobSearchRequest;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.exception.ServiceUnavailableException;
+import com.jobportal.model.Job;
+import com.jobportal.repository.JobRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Job Search Index - in-memory inverted index over active jobs
+ *
+ * Title, location and skills are tokenized into terms; every term keeps a
+ * posting list of internal document numbers (one bit per document). A query
+ * term matches every indexed term it is a prefix of, so "dev" still finds
+ * "Developer". Structured criteria (job type, experience level, remote,
+ * salary) are answered by JobFilterBitmaps, radius criteria by GeoGrid over
+ * coordinates resolved with the Gazetteer. Searches resolve and sort job IDs
+ * entirely in memory so that only the requested page has to be loaded from
+ * the database. Both offset pages and keyset (createdAt, jobId) pages are
+ * selected with a bounded heap instead of sorting every match.
+ *
+ * Every sortable listing field is answered here (see supportsSort), so the
+ * salary and currency semantics never depend on the sort. viewsCount and
+ * applicationsCount are kept current by the counter buffers, which pass on
+ * every committed batch of increments.
+ *
+ * sortBy "relevance" ranks keyword and skill matches with BM25F over title,
+ * skills, requirements and description (per-field boosts and length
+ * normalization). Term frequencies and field lengths are computed once at
+ * index time; the long text itself is not kept.
+ *
+ * The index is built on startup and kept current from JobChangedEvents
+ * published by JobService. It is the only search path: searches arriving
+ * before the first build wait up to jobportal.search.index.startup-wait and
+ * are then answered with 503, so results, totals and facets always come
+ * from the same matching rules.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Component
+public class JobSearchIndex {
+
+    enum Field {
+        TITLE, LOCATION, SKILLS, DESCRIPTION, REQUIREMENTS
+    }
+
+    public static final String SORT_RELEVANCE = "relevance";
+
+    public static final String FACET_JOB_TYPE = "jobType";
+    public static final String FACET_EXPERIENCE_LEVEL = "experienceLevel";
+    public static final String FACET_LOCATION = "location";
+    public static final String FACET_REMOTE = "isRemote";
+
+    private static final int MAX_LOCATION_FACETS = 20;
+
+    // BM25F parameters and per-field boosts of the relevance sort
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Map<Field, Double> RELEVANCE_BOOSTS = new EnumMap<>(Map.of(
+            Field.TITLE, 3.0,
+            Field.SKILLS, 2.0,
+            Field.REQUIREMENTS, 1.0,
+            Field.DESCRIPTION, 0.8));
+
+    // Nulls sort as the smallest value, like they do in MySQL and H2
+    private static final Map<String, Comparator<JobDocument>> SORT_KEYS = Map.ofEntries(
+            Map.entry("createdAt", nullsFirst(JobDocument::getCreatedAt)),
+            Map.entry("updatedAt", nullsFirst(JobDocument::getUpdatedAt)),
+            Map.entry("title", ignoringCase(JobDocument::getTitle)),
+            Map.entry("location", ignoringCase(JobDocument::getLocation)),
+            Map.entry("skills", ignoringCase(JobDocument::getSkills)),
+            Map.entry("jobType", ignoringCase(JobDocument::getJobType)),
+            Map.entry("experienceLevel", ignoringCase(JobDocument::getExperienceLevel)),
+            Map.entry("salaryCurrency", ignoringCase(JobDocument::getSalaryCurrency)),
+            Map.entry("vacancies", nullsFirst(JobDocument::getVacancies)),
+            Map.entry("applicationDeadline", nullsFirst(JobDocument::getApplicationDeadline)),
+            Map.entry("isRemote", Comparator.comparing(JobDocument::isRemote)),
+            Map.entry("viewsCount", Comparator.comparingLong(JobDocument::getViewsCount)),
+            Map.entry("applicationsCount", Comparator.comparingLong(JobDocument::getApplicationsCount)),
+            Map.entry("jobId", nullsFirst(JobDocument::getJobId)));
+
+    // Salaries sort in the base currency, as they are filtered (see salaryOrder)
+    private static final Map<String, Function<JobDocument, Double>> SALARY_SORTS = Map.of(
+            "minSalary", JobDocument::getMinSalary,
+            "maxSalary", JobDocument::getMaxSalary);
+
+    // Sorts on counters that change without a JobChangedEvent
+    private static final Set<String> COUNTER_SORTS = Set.of("viewsCount", "applicationsCount");
+
+    private final JobRepository jobRepository;
+    private final SalaryNormalizer salaryNormalizer;
+    private final Gazetteer gazetteer;
+    private final Duration startupWait;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docsByJobId = new HashMap<>();
+    private final List<IndexedDoc> docs = new ArrayList<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final BitSet liveDocs = new BitSet();
+    private final Map<Field, NavigableMap<String, BitSet>> postings = new EnumMap<>(Field.class);
+    private final JobFilterBitmaps filters = new JobFilterBitmaps();
+    private final GeoGrid geoGrid = new GeoGrid();
+    private final long[] fieldLengthTotals = new long[Field.values().length];
+
+    private final CountDownLatch built = new CountDownLatch(1);
+    private volatile boolean ready;
+
+    public JobSearchIndex(JobRepository jobRepository,
+            SalaryNormalizer salaryNormalizer,
+            Gazetteer gazetteer,
+            @Value("${jobportal.search.index.startup-wait:10s}") Duration startupWait) {
+        this.jobRepository = jobRepository;
+        this.salaryNormalizer = salaryNormalizer;
+        this.gazetteer = gazetteer;
+        this.startupWait = startupWait;
+    }
+
+    /**
+     * Build the index from all active jobs once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Read under the write lock: a change committed meanwhile waits and is applied on top of
+        // this snapshot instead of being overwritten by it
+        List<Job> activeJobs;
+        lock.writeLock().lock();
+        try {
+            activeJobs = jobRepository.findActiveJobsWithRecruiter();
+            docsByJobId.clear();
+            docs.clear();
+            freeDocs.clear();
+            liveDocs.clear();
+            postings.clear();
+            filters.clear();
+            geoGrid.clear();
+            Arrays.fill(fieldLengthTotals, 0);
+            for (Job job : activeJobs) {
+                add(JobDocument.from(job), null, false);
+            }
+            loadFilters();
+            ready = true;
+            built.countDown();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job search index built with {} active jobs", activeJobs.size());
+    }
+
+    /**
+     * Apply a committed job change to the index (before JobSearchCache invalidates)
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobDocument current = event.getCurrent();
+        if (current != null && current.isActive()) {
+            index(current);
+        } else {
+            remove(event.getJobId());
+        }
+    }
+
+    /**
+     * Whether search can order by the field
+     */
+    public static boolean supportsSort(String sortBy) {
+        return sortBy != null && (SORT_RELEVANCE.equals(sortBy) || SORT_KEYS.containsKey(sortBy)
+                || SALARY_SORTS.containsKey(sortBy));
+    }
+
+    /**
+     * Whether the order of the sort changes with view and application counts
+     */
+    public static boolean isCounterSort(String sortBy) {
+        return sortBy != null && COUNTER_SORTS.contains(sortBy);
+    }
+
+    /**
+     * Add or replace a job in the index.
+     * A job that is already indexed keeps its counters: they have been kept
+     * current since it was loaded, while the entity may predate the last flush.
+     * It also keeps its description and requirements statistics when the
+     * snapshot was taken from a listing without them.
+     */
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByJobId.get(document.getJobId());
+            IndexedDoc keptText = null;
+            if (existing != null) {
+                IndexedDoc indexed = docs.get(existing);
+                document = document.toBuilder()
+                        .viewsCount(indexed.getDocument().getViewsCount())
+                        .applicationsCount(indexed.getDocument().getApplicationsCount())
+                        .build();
+                keptText = document.getDescription() == null ? indexed : null;
+            }
+            delete(document.getJobId());
+            add(document, keptText, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job from the index
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            delete(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add written view increments (job ID to delta) to the indexed counters.
+     * Views written while the index is being rebuilt may be counted twice until
+     * the next rebuild.
+     */
+    public void recordViews(Map<Long, Long> views) {
+        updateCounters(views, (document, delta) -> document.toBuilder()
+                .viewsCount(document.getViewsCount() + delta).build());
+    }
+
+    /**
+     * Add written application count changes (job ID to delta) to the indexed counters
+     */
+    public void recordApplications(Map<Long, Long> applications) {
+        updateCounters(applications, (document, delta) -> document.toBuilder()
+                .applicationsCount(document.getApplicationsCount() + delta).build());
+    }
+
+    /**
+     * Replace the application count of a job after it was reconciled
+     */
+    public void correctApplications(Long jobId, long applicationsCount) {
+        updateCounters(Map.of(jobId, applicationsCount), (document, count) -> document.toBuilder()
+                .applicationsCount(count).build());
+    }
+
+    private void updateCounters(Map<Long, Long> values, BiFunction<JobDocument, Long, JobDocument> update) {
+        lock.writeLock().lock();
+        try {
+            values.forEach((jobId, value) -> {
+                Integer doc = docsByJobId.get(jobId);
+                if (doc != null) {
+                    IndexedDoc indexedDoc = docs.get(doc);
+                    indexedDoc.setDocument(update.apply(indexedDoc.getDocument(), value));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of jobs currently indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByJobId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count the jobs matching the request without resolving any page.
+     * Returns empty when the index is not built yet.
+     */
+    public OptionalLong count(JobSearchRequest request) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return OptionalLong.of(match(request).cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolve one page of matching job IDs (see supportsSort for the sort fields)
+     */
+    public SearchHits search(JobSearchRequest request, Pageable pageable) {
+        return search(request, pageable, false);
+    }
+
+    /**
+     * Resolve one page of matching job IDs, optionally with facet counts over
+     * all matching jobs
+     */
+    public SearchHits search(JobSearchRequest request, Pageable pageable, boolean includeFacets) {
+        boolean relevance = SORT_RELEVANCE.equals(request.getSortBy());
+        Comparator<JobDocument> sortKey = sortKey(request.getSortBy());
+        if (sortKey == null && !relevance) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + request.getSortBy());
+        }
+        awaitBuilt();
+        Comparator<JobDocument> newestFirst = SORT_KEYS.get("createdAt").reversed()
+                .thenComparing(SORT_KEYS.get("jobId").reversed());
+        Comparator<JobDocument> order;
+        if (relevance) {
+            order = newestFirst;
+        } else {
+            boolean ascending = "ASC".equalsIgnoreCase(request.getSortDirection());
+            order = (ascending ? sortKey : sortKey.reversed()).thenComparing(ascending
+                    ? SORT_KEYS.get("jobId")
+                    : SORT_KEYS.get("jobId").reversed());
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(request);
+            long total = matches.cardinality();
+            if (relevance) {
+                // Best score first; ties (and queries without terms) newest first
+                Map<Long, Double> scores = relevanceScores(matches, request);
+                order = Comparator.<JobDocument>comparingDouble(
+                        document -> scores.getOrDefault(document.getJobId(), 0.0)).reversed()
+                        .thenComparing(newestFirst);
+            }
+
+            long end = Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+            List<JobDocument> top = topK(matches, order, (int) end, null);
+            int from = (int) Math.min(pageable.getOffset(), top.size());
+            List<Long> pageIds = toJobIds(top.subList(from, top.size()));
+
+            Map<String, Map<String, Long>> facets = includeFacets ? countFacets(matches) : Map.of();
+            return new SearchHits(pageIds, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Searches during startup wait for the first build rather than being answered differently
+    private void awaitBuilt() {
+        if (ready) {
+            return;
+        }
+        try {
+            if (built.await(startupWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new ServiceUnavailableException("Job search is starting up, please retry");
+    }
+
+    private Comparator<JobDocument> sortKey(String sortBy) {
+        if (sortBy == null) {
+            return null;
+        }
+        Function<JobDocument, Double> salary = SALARY_SORTS.get(sortBy);
+        return salary != null ? salaryOrder(salary) : SORT_KEYS.get(sortBy);
+    }
+
+    // Salaries without a comparable base currency amount sort as the smallest value, like nulls
+    private Comparator<JobDocument> salaryOrder(Function<JobDocument, Double> salary) {
+        return Comparator.comparingDouble(document -> {
+            double normalized = salaryNormalizer.normalize(salary.apply(document), document.getSalaryCurrency());
+            return Double.isNaN(normalized) ? Double.NEGATIVE_INFINITY : normalized;
+        });
+    }
+
+    /**
+     * Resolve up to limit matching job IDs that come strictly after the given
+     * (createdAt, jobId) position in newest-first order. A null position
+     * starts from the newest job.
+     */
+    public List<Long> searchAfter(JobSearchRequest request, LocalDateTime createdAt, Long jobId, int limit) {
+        awaitBuilt();
+        Comparator<JobDocument> order = SORT_KEYS.get("createdAt").reversed()
+                .thenComparing(SORT_KEYS.get("jobId").reversed());
+        JobDocument position = jobId != null
+                ? JobDocument.builder().createdAt(createdAt).jobId(jobId).build()
+                : null;
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(request);
+            return toJobIds(topK(matches, order, limit, position));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Select the first k matching documents in the given order (optionally only
+     * those ordered after a position) with a bounded heap, without sorting the
+     * whole match set. Caller must hold the read lock.
+     */
+    private List<JobDocument> topK(BitSet matches, Comparator<JobDocument> order, int k, JobDocument after) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        // Max-heap on the order: the head is the worst document kept so far
+        PriorityQueue<JobDocument> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, order.reversed());
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            JobDocument document = docs.get(doc).getDocument();
+            if (after != null && order.compare(document, after) <= 0) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.offer(document);
+            } else if (order.compare(document, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(document);
+            }
+        }
+        List<JobDocument> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top;
+    }
+
+    /**
+     * BM25F score of every matching document for the keyword and skill terms.
+     * A query term counts every indexed term it is a prefix of, as in matching.
+     * Caller must hold the read lock.
+     */
+    private Map<Long, Double> relevanceScores(BitSet matches, JobSearchRequest request) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextAnalyzer.tokenize(request.getKeyword()));
+        queryTerms.addAll(TextAnalyzer.tokenize(request.getSkill()));
+        Map<Long, Double> scores = new HashMap<>();
+        if (queryTerms.isEmpty() || matches.isEmpty()) {
+            return scores;
+        }
+
+        int documentCount = docsByJobId.size();
+        Map<Field, Double> averageLengths = new EnumMap<>(Field.class);
+        for (Field field : RELEVANCE_BOOSTS.keySet()) {
+            averageLengths.put(field, Math.max(1.0, (double) fieldLengthTotals[field.ordinal()] / documentCount));
+        }
+
+        List<Map<Field, Set<String>>> expansions = new ArrayList<>();
+        List<Double> idfs = new ArrayList<>();
+        for (String term : queryTerms) {
+            Map<Field, Set<String>> termExpansions = new EnumMap<>(Field.class);
+            BitSet containing = new BitSet();
+            for (Field field : RELEVANCE_BOOSTS.keySet()) {
+                NavigableMap<String, BitSet> fieldTerms = postings.getOrDefault(field, Collections.emptyNavigableMap())
+                        .subMap(term, true, term + Character.MAX_VALUE, true);
+                termExpansions.put(field, fieldTerms.keySet());
+                fieldTerms.values().forEach(containing::or);
+            }
+            int documentFrequency = containing.cardinality();
+            expansions.add(termExpansions);
+            idfs.add(Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5)));
+        }
+
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            IndexedDoc indexedDoc = docs.get(doc);
+            double score = 0;
+            for (int i = 0; i < expansions.size(); i++) {
+                double weightedFrequency = 0;
+                for (Map.Entry<Field, Double> boost : RELEVANCE_BOOSTS.entrySet()) {
+                    Field field = boost.getKey();
+                    int frequency = prefixFrequency(indexedDoc.getTermFrequencies().get(field),
+                            expansions.get(i).get(field));
+                    if (frequency > 0) {
+                        double lengthRatio = indexedDoc.getFieldLengths()[field.ordinal()] / averageLengths.get(field);
+                        weightedFrequency += boost.getValue() * frequency / (1 - B + B * lengthRatio);
+                    }
+                }
+                if (weightedFrequency > 0) {
+                    score += idfs.get(i) * weightedFrequency / (K1 + weightedFrequency);
+                }
+            }
+            scores.put(indexedDoc.getDocument().getJobId(), score);
+        }
+        return scores;
+    }
+
+    // Total frequency of the expanded terms in one field, walking whichever side is smaller
+    private static int prefixFrequency(Map<String, Integer> frequencies, Set<String> expandedTerms) {
+        int frequency = 0;
+        if (expandedTerms.size() <= frequencies.size()) {
+            for (String term : expandedTerms) {
+                frequency += frequencies.getOrDefault(term, 0);
+            }
+        } else {
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                if (expandedTerms.contains(entry.getKey())) {
+                    frequency += entry.getValue();
+                }
+            }
+        }
+        return frequency;
+    }
+
+    private static List<Long> toJobIds(List<JobDocument> documents) {
+        List<Long> jobIds = new ArrayList<>(documents.size());
+        for (JobDocument document : documents) {
+            jobIds.add(document.getJobId());
+        }
+        return jobIds;
+    }
+
+    /**
+     * Count every facet in a single pass over the matching documents.
+     * Caller must hold the read lock.
+     */
+    private Map<String, Map<String, Long>> countFacets(BitSet matches) {
+        Map<String, Long> jobTypes = new HashMap<>();
+        Map<String, Long> experienceLevels = new HashMap<>();
+        Map<String, Long> locations = new HashMap<>();
+        Map<String, Long> remote = new HashMap<>();
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            JobDocument document = docs.get(doc).getDocument();
+            if (document.getJobType() != null) {
+                jobTypes.merge(document.getJobType(), 1L, Long::sum);
+            }
+            if (document.getExperienceLevel() != null) {
+                experienceLevels.merge(document.getExperienceLevel(), 1L, Long::sum);
+            }
+            if (StringUtils.hasText(document.getLocation())) {
+                locations.merge(document.getLocation().trim(), 1L, Long::sum);
+            }
+            remote.merge(String.valueOf(document.isRemote()), 1L, Long::sum);
+        }
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put(FACET_JOB_TYPE, byCountDescending(jobTypes, Integer.MAX_VALUE));
+        facets.put(FACET_EXPERIENCE_LEVEL, byCountDescending(experienceLevels, Integer.MAX_VALUE));
+        facets.put(FACET_LOCATION, byCountDescending(locations, MAX_LOCATION_FACETS));
+        facets.put(FACET_REMOTE, byCountDescending(remote, Integer.MAX_VALUE));
+        return facets;
+    }
+
+    private static Map<String, Long> byCountDescending(Map<String, Long> counts, int limit) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Compute the set of documents matching every criterion of the request.
+     * Caller must hold the read lock.
+     */
+    private BitSet match(JobSearchRequest request) {
+        BitSet matches = (BitSet) liveDocs.clone();
+        intersectTerms(matches, Field.TITLE, request.getKeyword());
+        intersectTerms(matches, Field.LOCATION, request.getLocation());
+        intersectTerms(matches, Field.SKILLS, request.getSkill());
+
+        if (!matches.isEmpty()) {
+            String currency = request.getSalaryCurrency();
+            filters.filter(matches,
+                    request.getJobType(),
+                    request.getExperienceLevel(),
+                    request.getIsRemote(),
+                    salaryNormalizer.normalize(request.getMinSalary(), currency),
+                    salaryNormalizer.normalize(request.getMaxSalary(), currency));
+        }
+        if (request.getRadiusKm() != null && !matches.isEmpty()) {
+            Optional<GeoPoint> center = gazetteer.center(request);
+            if (center.isPresent()) {
+                matches.and(geoGrid.within(center.get(), request.getRadiusKm(), doc -> docs.get(doc).getPoint()));
+            } else {
+                matches.clear();
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Narrow matches to documents containing every query term (as a prefix) in the field
+     */
+    private void intersectTerms(BitSet matches, Field field, String text) {
+        if (!StringUtils.hasText(text)) {
+            return;
+        }
+        NavigableMap<String, BitSet> dictionary = postings.getOrDefault(field, Collections.emptyNavigableMap());
+        for (String term : TextAnalyzer.tokenize(text)) {
+            BitSet termDocs = new BitSet();
+            for (BitSet posting : dictionary.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+                termDocs.or(posting);
+            }
+            matches.and(termDocs);
+            if (matches.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Index a document, taking the description and requirements statistics from keptText
+     * when given; filters are updated too unless the caller loads them in bulk afterwards
+     */
+    private void add(JobDocument document, IndexedDoc keptText, boolean updateFilters) {
+        int doc = freeDocs.isEmpty() ? docs.size() : freeDocs.pop();
+        Map<Field, Map<String, Integer>> termFrequencies = new EnumMap<>(Field.class);
+        int[] fieldLengths = new int[Field.values().length];
+        addField(termFrequencies, fieldLengths, Field.TITLE, document.getTitle());
+        addField(termFrequencies, fieldLengths, Field.LOCATION, document.getLocation());
+        addField(termFrequencies, fieldLengths, Field.SKILLS, document.getSkills());
+        if (keptText != null) {
+            for (Field field : List.of(Field.DESCRIPTION, Field.REQUIREMENTS)) {
+                termFrequencies.put(field, keptText.getTermFrequencies().get(field));
+                fieldLengths[field.ordinal()] = keptText.getFieldLengths()[field.ordinal()];
+            }
+        } else {
+            addField(termFrequencies, fieldLengths, Field.DESCRIPTION, document.getDescription());
+            addField(termFrequencies, fieldLengths, Field.REQUIREMENTS, document.getRequirements());
+        }
+
+        double minSalary = salaryNormalizer.normalize(document.getMinSalary(), document.getSalaryCurrency());
+        double maxSalary = salaryNormalizer.normalize(document.getMaxSalary(), document.getSalaryCurrency());
+
+        // Only the term statistics of the long text fields are kept
+        JobDocument stored = document.toBuilder().description(null).requirements(null).build();
+        GeoPoint point = gazetteer.resolve(document).orElse(null);
+        IndexedDoc indexedDoc = new IndexedDoc(stored, termFrequencies, fieldLengths, minSalary, maxSalary, point);
+        if (doc == docs.size()) {
+            docs.add(indexedDoc);
+        } else {
+            docs.set(doc, indexedDoc);
+        }
+        termFrequencies.forEach((field, fieldTerms) -> {
+            NavigableMap<String, BitSet> dictionary = postings.computeIfAbsent(field, f -> new TreeMap<>());
+            for (String term : fieldTerms.keySet()) {
+                dictionary.computeIfAbsent(term, t -> new BitSet()).set(doc);
+            }
+            fieldLengthTotals[field.ordinal()] += fieldLengths[field.ordinal()];
+        });
+        if (updateFilters) {
+            filters.add(doc, document, minSalary, maxSalary);
+        }
+        geoGrid.add(doc, point);
+        liveDocs.set(doc);
+        docsByJobId.put(document.getJobId(), doc);
+    }
+
+    // Build the structured filters for all live documents at once
+    private void loadFilters() {
+        int count = docsByJobId.size();
+        int[] docNumbers = new int[count];
+        JobDocument[] documents = new JobDocument[count];
+        double[] minSalaries = new double[count];
+        double[] maxSalaries = new double[count];
+        int i = 0;
+        for (int doc : docsByJobId.values()) {
+            IndexedDoc indexedDoc = docs.get(doc);
+            docNumbers[i] = doc;
+            documents[i] = indexedDoc.getDocument();
+            minSalaries[i] = indexedDoc.getMinSalary();
+            maxSalaries[i] = indexedDoc.getMaxSalary();
+            i++;
+        }
+        filters.load(docNumbers, documents, minSalaries, maxSalaries);
+    }
+
+    private void delete(Long jobId) {
+        Integer doc = docsByJobId.remove(jobId);
+        if (doc == null) {
+            return;
+        }
+        IndexedDoc indexedDoc = docs.get(doc);
+        indexedDoc.getTermFrequencies().forEach((field, fieldTerms) -> {
+            NavigableMap<String, BitSet> dictionary = postings.get(field);
+            for (String term : fieldTerms.keySet()) {
+                BitSet posting = dictionary.get(term);
+                posting.clear(doc);
+                if (posting.isEmpty()) {
+                    dictionary.remove(term);
+                }
+            }
+            fieldLengthTotals[field.ordinal()] -= indexedDoc.getFieldLengths()[field.ordinal()];
+        });
+        filters.remove(doc, indexedDoc.getDocument(), indexedDoc.getMinSalary(), indexedDoc.getMaxSalary());
+        geoGrid.remove(doc, indexedDoc.getPoint());
+        liveDocs.clear(doc);
+        docs.set(doc, null);
+        freeDocs.push(doc);
+    }
+
+    private static void addField(Map<Field, Map<String, Integer>> termFrequencies, int[] fieldLengths, Field field,
+            String text) {
+        List<String> tokens = TextAnalyzer.tokenize(text);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        termFrequencies.put(field, frequencies);
+        fieldLengths[field.ordinal()] = tokens.size();
+    }
+
+    private static Comparator<JobDocument> ignoringCase(Function<JobDocument, String> keyExtractor) {
+        return Comparator.comparing(keyExtractor, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<JobDocument> nullsFirst(
+            Function<JobDocument, T> keyExtractor) {
+        return Comparator.comparing(keyExtractor, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    /**
+     * A live document: the job snapshot (without its long text fields) plus the
+     * term frequencies, field lengths, normalized salaries and coordinates it contributed, so
+     * postings and filters can be cleaned up when the job changes. The snapshot
+     * is replaced when its counters change.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class IndexedDoc {
+
+        @Setter
+        private JobDocument document;
+        private final Map<Field, Map<String, Integer>> termFrequencies;
+        private final int[] fieldLengths;
+        private final double minSalary;
+        private final double maxSalary;
+        private final GeoPoint point;
+    }
+}
@@ -0,0 +1,285 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.SuggestionDTO;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.model.Job;
+import com.jobportal.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Job Suggester - typeahead suggestions for the job search box
+ *
+ * Every distinct title, skill, location and company name of the active jobs
+ * is a phrase counted by the number of jobs it occurs in. Phrases are
+ * registered in a sorted dictionary under their normalized text and under
+ * every word-start suffix, so "dev" suggests "Senior Java Developer". A lookup
+ * is a range scan over the keys starting with the query; results are ranked
+ * by job count. Top results of one- and two-character prefixes, whose ranges
+ * are the widest, are memoized until the next change.
+ *
+ * The number of phrases is capped by max-entries: once full, new phrases are
+ * ignored until existing ones disappear. Kept current from JobChangedEvents.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Component
+public class JobSuggester {
+
+    public enum Type {
+        TITLE, SKILL, LOCATION, COMPANY
+    }
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final int MAX_PHRASE_LENGTH = 80;
+    private static final int MAX_WORD_KEYS = 8;
+    private static final int MEMOIZED_PREFIX_LENGTH = 2;
+
+    // Job count descending, then alphabetical
+    private static final Comparator<Phrase> RANKING = Comparator.comparingInt(Phrase::getCount).reversed()
+            .thenComparing(Phrase::getText, String.CASE_INSENSITIVE_ORDER);
+
+    private final JobRepository jobRepository;
+    private final int maxEntries;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Phrase> phrases = new HashMap<>();
+    private final NavigableMap<String, List<Phrase>> keys = new TreeMap<>();
+    private final Map<Long, List<Phrase>> contributions = new HashMap<>();
+    // Filled under the read lock and cleared under the write lock, so it never outlives a change
+    private final Map<String, List<SuggestionDTO>> memoized = new ConcurrentHashMap<>();
+
+    public JobSuggester(JobRepository jobRepository,
+            @Value("${jobportal.search.suggest.max-entries:20000}") int maxEntries) {
+        this.jobRepository = jobRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Build the suggestions from all active jobs once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Read under the write lock so a change committed meanwhile is applied on top of the snapshot
+        lock.writeLock().lock();
+        try {
+            List<Job> activeJobs = jobRepository.findActiveJobsWithRecruiter();
+            phrases.clear();
+            keys.clear();
+            contributions.clear();
+            for (Job job : activeJobs) {
+                add(JobDocument.from(job));
+            }
+            memoized.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job suggester built with {} phrases", phrases.size());
+    }
+
+    /**
+     * Apply a committed job change to the suggestions
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobDocument current = event.getCurrent();
+        lock.writeLock().lock();
+        try {
+            remove(event.getJobId());
+            if (current != null && current.isActive()) {
+                add(current);
+            }
+            memoized.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Suggest up to limit phrases containing a word that starts with the query,
+     * optionally restricted to one type
+     */
+    public List<SuggestionDTO> suggest(String query, Type type, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int size = Math.min(limit, MAX_LIMIT);
+
+        lock.readLock().lock();
+        try {
+            if (prefix.length() > MEMOIZED_PREFIX_LENGTH) {
+                return lookup(prefix, type, size);
+            }
+            List<SuggestionDTO> top = memoized.computeIfAbsent(type + ":" + prefix,
+                    key -> lookup(prefix, type, MAX_LIMIT));
+            return top.subList(0, Math.min(size, top.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct phrases currently held
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return phrases.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller must hold the read lock
+    private List<SuggestionDTO> lookup(String prefix, Type type, int limit) {
+        PriorityQueue<Phrase> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Set<Phrase> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Phrase> candidates : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            for (Phrase phrase : candidates) {
+                if ((type != null && phrase.getType() != type) || !seen.add(phrase)) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.offer(phrase);
+                } else if (RANKING.compare(phrase, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.offer(phrase);
+                }
+            }
+        }
+        List<Phrase> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        List<SuggestionDTO> suggestions = new ArrayList<>(top.size());
+        for (Phrase phrase : top) {
+            suggestions.add(new SuggestionDTO(phrase.getText(), phrase.getType().name(), phrase.getCount()));
+        }
+        return suggestions;
+    }
+
+    private void add(JobDocument document) {
+        List<Phrase> contributed = new ArrayList<>();
+        addPhrase(Type.TITLE, document.getTitle(), contributed);
+        addPhrase(Type.LOCATION, document.getLocation(), contributed);
+        addPhrase(Type.COMPANY, document.getCompanyName(), contributed);
+        if (document.getSkills() != null) {
+            for (String skill : document.getSkills().split(",")) {
+                addPhrase(Type.SKILL, skill, contributed);
+            }
+        }
+        if (!contributed.isEmpty()) {
+            contributions.put(document.getJobId(), contributed);
+        }
+    }
+
+    private void addPhrase(Type type, String text, List<Phrase> contributed) {
+        if (!StringUtils.hasText(text)) {
+            return;
+        }
+        String display = text.trim().replaceAll("\\s+", " ");
+        String normalized = normalize(display);
+        if (normalized.isEmpty() || display.length() > MAX_PHRASE_LENGTH) {
+            return;
+        }
+        String id = type + ":" + normalized;
+        Phrase phrase = phrases.get(id);
+        if (phrase == null) {
+            if (phrases.size() >= maxEntries) {
+                return;
+            }
+            phrase = new Phrase(type, display, wordKeys(normalized));
+            phrases.put(id, phrase);
+            for (String key : phrase.getKeys()) {
+                keys.computeIfAbsent(key, k -> new ArrayList<>(1)).add(phrase);
+            }
+        } else if (contributed.contains(phrase)) {
+            // A job counts once per phrase, e.g. "Java, java"
+            return;
+        }
+        phrase.count++;
+        contributed.add(phrase);
+    }
+
+    private void remove(Long jobId) {
+        List<Phrase> contributed = contributions.remove(jobId);
+        if (contributed == null) {
+            return;
+        }
+        for (Phrase phrase : contributed) {
+            if (--phrase.count > 0) {
+                continue;
+            }
+            phrases.remove(phrase.getType() + ":" + normalize(phrase.getText()));
+            for (String key : phrase.getKeys()) {
+                List<Phrase> registered = keys.get(key);
+                registered.remove(phrase);
+                if (registered.isEmpty()) {
+                    keys.remove(key);
+                }
+            }
+        }
+    }
+
+    // The normalized phrase and every suffix starting at a later word
+    private static List<String> wordKeys(String normalized) {
+        String[] words = normalized.split(" ");
+        List<String> wordKeys = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < words.length && i < MAX_WORD_KEYS; i++) {
+            String key = normalized.substring(start);
+            if (!wordKeys.contains(key)) {
+                wordKeys.add(key);
+            }
+            start += words[i].length() + 1;
+        }
+        return wordKeys;
+    }
+
+    private static String normalize(String text) {
+        return String.join(" ", TextAnalyzer.tokenize(text));
+    }
+
+    /**
+     * A suggestible phrase and the number of active jobs it occurs in
+     */
+    private static final class Phrase {
+
+        private final Type type;
+        private final String text;
+        private final List<String> keys;
+        private int count;
+
+        private Phrase(Type type, String text, List<String> keys) {
+            this.type = type;
+            this.text = text;
+            this.keys = keys;
+        }
+
+        Type getType() {
+            return type;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        List<String> getKeys() {
+            return keys;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobportal.search;
+
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.model.Job;
+import com.jobportal.model.Recruiter;
+import com.jobportal.model.User;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.RecruiterRepository;
+import com.jobportal.repository.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Name Search Indexes - typo-tolerant lookups for names
+ *
+ * Holds one FuzzyIndex each for active job titles, recruiter company names
+ * and active user names. Built on startup; job titles follow JobChangedEvents,
+ * company and user names are updated by the services that change them once
+ * the surrounding transaction commits.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NameSearchIndexes {
+
+    private final JobRepository jobRepository;
+    private final RecruiterRepository recruiterRepository;
+    private final UserRepository userRepository;
+
+    @Getter
+    private final FuzzyIndex jobTitles = new FuzzyIndex();
+    @Getter
+    private final FuzzyIndex companyNames = new FuzzyIndex();
+    @Getter
+    private final FuzzyIndex userNames = new FuzzyIndex();
+
+    /**
+     * Build the indexes once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, String> titles = new HashMap<>();
+        for (Job job : jobRepository.findByIsActiveTrue()) {
+            titles.put(job.getJobId(), job.getTitle());
+        }
+        jobTitles.replaceAll(titles);
+
+        Map<Long, String> companies = new HashMap<>();
+        for (Recruiter recruiter : recruiterRepository.findAll()) {
+            companies.put(recruiter.getRecruiterId(), recruiter.getCompanyName());
+        }
+        companyNames.replaceAll(companies);
+
+        Map<Long, String> users = new HashMap<>();
+        for (User user : userRepository.findByIsActiveTrue()) {
+            users.put(user.getUserId(), user.getName());
+        }
+        userNames.replaceAll(users);
+
+        log.info("Name search indexes built with {} job titles, {} companies and {} users",
+                jobTitles.size(), companyNames.size(), userNames.size());
+    }
+
+    /**
+     * Apply a committed job change to the job title index
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobDocument current = event.getCurrent();
+        if (current != null && current.isActive()) {
+            jobTitles.put(current.getJobId(), current.getTitle());
+        } else {
+            jobTitles.remove(event.getJobId());
+        }
+    }
+
+    /**
+     * Record a recruiter's company name (applied after commit)
+     */
+    public void companyNameChanged(Long recruiterId, String companyName) {
+        afterCommit(() -> companyNames.put(recruiterId, companyName));
+    }
+
+    /**
+     * Record a user's name (applied after commit)
+     */
+    public void userNameChanged(Long userId, String name) {
+        afterCommit(() -> userNames.put(userId, name));
+    }
+
+    /**
+     * Drop a deactivated or deleted user from the user name index (applied after commit)
+     */
+    public void userRemoved(Long userId) {
+        afterCommit(() -> userNames.remove(userId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
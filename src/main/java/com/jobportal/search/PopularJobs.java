@@ -0,0 +1,192 @@
+package com.jobportal.search;
+
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.repository.JobRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Popular Jobs - ranking of active jobs by views, fed by the view count flushes
+ *
+ * Every job has a score; active jobs are additionally kept in a sorted set
+ * (score descending, then job ID), so the top k are read in O(k). Views are
+ * not applied one by one on the request path: ViewCountBuffer hands over the
+ * per-job totals it has written, once per jobportal.views.flush-interval, and
+ * each viewed job then costs O(log n). The ranking therefore lags the views
+ * by at most one flush interval.
+ *
+ * Without a half-life the score is the all-time view count. With
+ * jobportal.popular.half-life set, views decay exponentially ("trending"):
+ * each view is weighted by 2^((t - t0) / halfLife), t being the time it is
+ * handed over, instead of decaying every stored score, which keeps the order
+ * identical and an update O(log n). The weights are rescaled before they can
+ * overflow.
+ *
+ * Scores are loaded from the persisted view counts once the application has
+ * started (with decay, these count as views made at startup). Job activation
+ * changes arrive as JobChangedEvents.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Component
+public class PopularJobs {
+
+    private static final double MAX_WEIGHT = 1e100;
+
+    // Score descending, then job ID ascending
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::getScore).reversed()
+            .thenComparingLong(Entry::getJobId);
+
+    private final JobRepository jobRepository;
+    // Null for all-time counts
+    private final Duration halfLife;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final NavigableSet<Entry> ranking = new TreeSet<>(RANKING);
+    private final Set<Long> activeJobs = new HashSet<>();
+    private long epochNanos = System.nanoTime();
+    private boolean ready;
+
+    public PopularJobs(JobRepository jobRepository,
+            @Value("${jobportal.popular.half-life:}") Duration halfLife) {
+        this.jobRepository = jobRepository;
+        this.halfLife = halfLife != null && !halfLife.isZero() && !halfLife.isNegative() ? halfLife : null;
+    }
+
+    /**
+     * Load the scores from the persisted view counts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int ranked;
+
+        // Read under the monitor: views or job changes arriving meanwhile wait and are applied
+        // on top of the loaded counts instead of being overwritten by them
+        synchronized (this) {
+            List<Object[]> rows = jobRepository.findViewCounts();
+            scores.clear();
+            ranking.clear();
+            activeJobs.clear();
+            epochNanos = System.nanoTime();
+            double weight = weight();
+            for (Object[] row : rows) {
+                Long jobId = (Long) row[0];
+                double score = row[1] != null ? ((Number) row[1]).doubleValue() * weight : 0;
+                scores.put(jobId, score);
+                if (Boolean.TRUE.equals(row[2])) {
+                    activeJobs.add(jobId);
+                    ranking.add(new Entry(jobId, score));
+                }
+            }
+            ranked = ranking.size();
+            ready = true;
+        }
+        log.info("Popular jobs tracker built with {} active jobs{}", ranked,
+                halfLife != null ? " (half-life " + halfLife + ")" : "");
+    }
+
+    /**
+     * Count views of jobs (job ID -> number of views since the last call)
+     */
+    public synchronized void recordViews(Map<Long, Long> views) {
+        double weight = weight();
+        if (weight > MAX_WEIGHT) {
+            rescale();
+            weight = weight();
+        }
+        for (Map.Entry<Long, Long> view : views.entrySet()) {
+            Long jobId = view.getKey();
+            double previous = scores.getOrDefault(jobId, 0.0);
+            double score = previous + view.getValue() * weight;
+            scores.put(jobId, score);
+            if (activeJobs.contains(jobId)) {
+                ranking.remove(new Entry(jobId, previous));
+                ranking.add(new Entry(jobId, score));
+            }
+        }
+    }
+
+    /**
+     * Apply a committed job change: only active jobs are ranked
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        Long jobId = event.getJobId();
+        JobDocument current = event.getCurrent();
+        double score = scores.getOrDefault(jobId, 0.0);
+        if (current != null && current.isActive()) {
+            if (activeJobs.add(jobId)) {
+                scores.put(jobId, score);
+                ranking.add(new Entry(jobId, score));
+            }
+        } else if (activeJobs.remove(jobId)) {
+            ranking.remove(new Entry(jobId, score));
+        }
+        if (current == null) {
+            scores.remove(jobId);
+        }
+    }
+
+    /**
+     * IDs of the up to limit most popular active jobs, or empty while the
+     * tracker is not built
+     */
+    public synchronized Optional<List<Long>> top(int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        List<Long> jobIds = new ArrayList<>(Math.min(limit, ranking.size()));
+        for (Entry entry : ranking) {
+            if (jobIds.size() >= limit) {
+                break;
+            }
+            jobIds.add(entry.getJobId());
+        }
+        return Optional.of(jobIds);
+    }
+
+    /**
+     * Weight of a view made now: 1 for all-time counts, growing with time otherwise
+     */
+    private double weight() {
+        if (halfLife == null) {
+            return 1;
+        }
+        double halfLives = (double) (System.nanoTime() - epochNanos) / halfLife.toNanos();
+        return Math.pow(2, halfLives);
+    }
+
+    /**
+     * Move the epoch to now, dividing all scores by the current weight
+     */
+    private void rescale() {
+        double weight = weight();
+        epochNanos = System.nanoTime();
+        scores.replaceAll((jobId, score) -> score / weight);
+        ranking.clear();
+        for (Long jobId : activeJobs) {
+            ranking.add(new Entry(jobId, scores.getOrDefault(jobId, 0.0)));
+        }
+    }
+
+    /**
+     * A ranked job and its score
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Entry {
+
+        private final long jobId;
+        private final double score;
+    }
+}
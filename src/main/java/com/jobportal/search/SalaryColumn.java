@@ -0,0 +1,134 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Sorted primitive salary column used for range filters
+ *
+ * Keeps (normalized salary, document) pairs in two parallel arrays ordered by
+ * salary, so a range predicate is a binary search followed by a contiguous
+ * scan. Documents without a comparable salary are not stored and therefore
+ * never match a salary filter, matching SQL NULL semantics.
+ *
+ * Not thread-safe; guarded by the JobSearchIndex lock.
+ */
+final class SalaryColumn {
+
+    private double[] values = new double[64];
+    private int[] docs = new int[64];
+    private int size;
+
+    void add(int doc, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        int position = upperBound(value);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        System.arraycopy(docs, position, docs, position + 1, size - position);
+        values[position] = value;
+        docs[position] = doc;
+        size++;
+    }
+
+    /**
+     * Replace the contents with the given (document, value) pairs, sorting once.
+     * Used for the initial build; add() keeps the order for incremental changes.
+     */
+    void load(int[] newDocs, double[] newValues) {
+        List<Integer> positions = new ArrayList<>(newDocs.length);
+        for (int i = 0; i < newDocs.length; i++) {
+            if (!Double.isNaN(newValues[i])) {
+                positions.add(i);
+            }
+        }
+        positions.sort((a, b) -> Double.compare(newValues[a], newValues[b]));
+
+        int capacity = Math.max(64, positions.size());
+        values = new double[capacity];
+        docs = new int[capacity];
+        size = 0;
+        for (int position : positions) {
+            values[size] = newValues[position];
+            docs[size] = newDocs[position];
+            size++;
+        }
+    }
+
+    void remove(int doc, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        for (int position = lowerBound(value); position < size && values[position] == value; position++) {
+            if (docs[position] == doc) {
+                System.arraycopy(values, position + 1, values, position, size - position - 1);
+                System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+                size--;
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Documents whose value is greater than or equal to the bound
+     */
+    BitSet atLeast(double bound) {
+        BitSet result = new BitSet();
+        for (int position = lowerBound(bound); position < size; position++) {
+            result.set(docs[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Documents whose value is less than or equal to the bound
+     */
+    BitSet atMost(double bound) {
+        BitSet result = new BitSet();
+        int end = upperBound(bound);
+        for (int position = 0; position < end; position++) {
+            result.set(docs[position]);
+        }
+        return result;
+    }
+
+    // First position whose value is >= bound
+    private int lowerBound(double bound) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First position whose value is > bound
+    private int upperBound(double bound) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
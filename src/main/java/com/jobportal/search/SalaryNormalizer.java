@@ -0,0 +1,56 @@
+package com.jobportal.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Salary Normalizer - converts salaries into the base currency
+ *
+ * Rates are configured as "CODE:rate" pairs (units of base currency per unit
+ * of CODE) so that salaries posted in different currencies can be compared
+ * and range-filtered on one scale.
+ */
+@Component
+public class SalaryNormalizer {
+
+    private final String baseCurrency;
+    private final Map<String, Double> rates = new HashMap<>();
+
+    public SalaryNormalizer(
+            @Value("${jobportal.search.base-currency:INR}") String baseCurrency,
+            @Value("${jobportal.search.currency-rates:}") String currencyRates) {
+        this.baseCurrency = baseCurrency.toUpperCase(Locale.ROOT);
+        this.rates.put(this.baseCurrency, 1.0);
+        for (String pair : StringUtils.commaDelimitedListToStringArray(currencyRates)) {
+            String[] parts = pair.split(":");
+            if (parts.length == 2) {
+                rates.put(parts[0].trim().toUpperCase(Locale.ROOT), Double.parseDouble(parts[1].trim()));
+            }
+        }
+    }
+
+    /**
+     * Whether amounts in the currency can be converted (blank means the base currency)
+     */
+    public boolean supports(String currency) {
+        return !StringUtils.hasText(currency) || rates.containsKey(currency.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Convert an amount to the base currency.
+     * Returns NaN when the amount is missing or the currency has no configured rate.
+     */
+    public double normalize(Double amount, String currency) {
+        if (amount == null) {
+            return Double.NaN;
+        }
+        String code = StringUtils.hasText(currency) ? currency.trim().toUpperCase(Locale.ROOT) : baseCurrency;
+        Double rate = rates.get(code);
+        return rate != null ? amount * rate : Double.NaN;
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobSearchRequest;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Canonical form of a JobSearchRequest used as a search cache key
+ *
+ * Free-text criteria are reduced to their index terms (so case, spacing and
+ * punctuation differences share one entry), salaries are converted to the
+ * base currency, a radius centre is resolved to coordinates and the sort
+ * defaults are made explicit. Paging is not part
+ * of the key: an entry holds the leading job IDs of the result.
+ */
+@Value
+class SearchCacheKey {
+
+    List<String> keywordTerms;
+    List<String> locationTerms;
+    List<String> skillTerms;
+    String jobType;
+    String experienceLevel;
+    Boolean isRemote;
+    Double minSalary;
+    Double maxSalary;
+    GeoPoint center;
+    Double radiusKm;
+    String sortBy;
+    boolean ascending;
+
+    static SearchCacheKey of(JobSearchRequest request, SalaryNormalizer salaryNormalizer, Gazetteer gazetteer) {
+        String currency = request.getSalaryCurrency();
+        GeoPoint center = request.getRadiusKm() != null ? gazetteer.center(request).orElse(null) : null;
+        return new SearchCacheKey(
+                TextAnalyzer.tokenize(request.getKeyword()),
+                TextAnalyzer.tokenize(request.getLocation()),
+                TextAnalyzer.tokenize(request.getSkill()),
+                request.getJobType(),
+                request.getExperienceLevel(),
+                request.getIsRemote(),
+                toBoxed(salaryNormalizer.normalize(request.getMinSalary(), currency)),
+                toBoxed(salaryNormalizer.normalize(request.getMaxSalary(), currency)),
+                center,
+                request.getRadiusKm(),
+                request.getSortBy() != null ? request.getSortBy() : "createdAt",
+                "ASC".equalsIgnoreCase(request.getSortDirection()));
+    }
+
+    /**
+     * Whether the job would be part of this search's result, using the same
+     * rules as JobSearchIndex (prefix terms, exact structured values)
+     */
+    boolean matches(JobDocument document, SalaryNormalizer salaryNormalizer, Gazetteer gazetteer) {
+        if (!document.isActive()
+                || !containsPrefixes(document.getTitle(), keywordTerms)
+                || !containsPrefixes(document.getLocation(), locationTerms)
+                || !containsPrefixes(document.getSkills(), skillTerms)) {
+            return false;
+        }
+        if (jobType != null && !jobType.equals(document.getJobType())) {
+            return false;
+        }
+        if (experienceLevel != null && !experienceLevel.equals(document.getExperienceLevel())) {
+            return false;
+        }
+        if (isRemote != null && isRemote != document.isRemote()) {
+            return false;
+        }
+        if (minSalary != null
+                && !(salaryNormalizer.normalize(document.getMinSalary(), document.getSalaryCurrency()) >= minSalary)) {
+            return false;
+        }
+        if (maxSalary != null
+                && !(salaryNormalizer.normalize(document.getMaxSalary(), document.getSalaryCurrency()) <= maxSalary)) {
+            return false;
+        }
+        if (radiusKm == null) {
+            return true;
+        }
+        Optional<GeoPoint> point = gazetteer.resolve(document);
+        return center != null && point.isPresent() && center.distanceKm(point.get()) <= radiusKm;
+    }
+
+    private static boolean containsPrefixes(String text, List<String> queryTerms) {
+        if (queryTerms.isEmpty()) {
+            return true;
+        }
+        List<String> terms = TextAnalyzer.tokenize(text);
+        for (String queryTerm : queryTerms) {
+            if (terms.stream().noneMatch(term -> term.startsWith(queryTerm))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Double toBoxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
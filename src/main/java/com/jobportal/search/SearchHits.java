@@ -0,0 +1,21 @@
+package com.jobportal.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an index lookup: the job IDs of the requested page, in order,
+ * the total number of matching jobs and, when requested, facet counts
+ * (facet name -> value -> number of matching jobs)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+
+    private final List<Long> jobIds;
+    private final long totalHits;
+    private final Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,36 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Text Analyzer - splits free text into lowercase index terms
+ *
+ * '+' and '#' are kept inside terms so that skills such as "C++" and "C#"
+ * stay searchable.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Tokenize text into lowercase terms (duplicates preserved, in order)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String term : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jobportal.security;
+
+import com.jobportal.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Password encoder that runs the delegate (BCrypt) on a dedicated, bounded pool
+ *
+ * Hashing is CPU-bound; running it on the request threads lets a login or
+ * registration storm occupy all of them. Here at most threads + queueCapacity
+ * requests can be inside an encode/matches call at any time; beyond that the
+ * call fails immediately with TooManyRequestsException (HTTP 429), so the
+ * rest of the request thread pool keeps serving other endpoints.
+ *
+ * Metrics: jobportal.auth.hashing timer by operation (encode, matches) and
+ * stage (queue = waiting for a hashing thread, hash = hashing itself),
+ * jobportal.auth.hashing.rejected counter, and pool gauges.
+ *
+ * Part of the Security Layer
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeQueue;
+    private final Timer encodeHash;
+    private final Timer matchesQueue;
+    private final Timer matchesHash;
+    private final Counter encodeRejected;
+    private final Counter matchesRejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeQueue = stageTimer(meterRegistry, "encode", "queue");
+        this.encodeHash = stageTimer(meterRegistry, "encode", "hash");
+        this.matchesQueue = stageTimer(meterRegistry, "matches", "queue");
+        this.matchesHash = stageTimer(meterRegistry, "matches", "hash");
+        this.encodeRejected = rejectedCounter(meterRegistry, "encode");
+        this.matchesRejected = rejectedCounter(meterRegistry, "matches");
+        Gauge.builder("jobportal.auth.hashing.queued", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread").register(meterRegistry);
+        Gauge.builder("jobportal.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing threads busy").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeQueue, encodeHash, encodeRejected);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesQueue, matchesHash, matchesRejected);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stop the hashing threads (called by the container on shutdown)
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Supplier<T> task, Timer queueTimer, Timer hashTimer, Counter rejected) {
+        long submitted = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many sign-in requests, please try again shortly", e);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String operation, String stage) {
+        return Timer.builder("jobportal.auth.hashing").tag("operation", operation).tag("stage", stage)
+                .description("Password hashing latency by stage").register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("jobportal.auth.hashing.rejected").tag("operation", operation)
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+}
@@ -2,114 +2,179 @@ package com.jobportal.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT Utility Class
  * 
  * Handles JWT token generation and validation
+ *
+ * The signing key and parser are built once; verified claims are cached by
+ * token digest (bounded, least recently used evicted) until the token expires.
  * 
  * Part of the Security Layer
  */
+@Slf4j
 @Component
 public class JwtUtil {
 
+    // Claim holding the user ID, so requests can be authorized without looking the user up by email
+    public static final String USER_ID_CLAIM = "uid";
+
     @Value("${jwt.secret:defaultSecretKeyForDevelopmentPurposesOnlyChangeInProduction123456789}")
     private String jwtSecret;
 
     @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
     private long jwtExpiration;
 
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified claims by SHA-256 digest of the token, least recently used first
+    private Map<String, Claims> verifiedClaims;
+
     /**
-     * Get signing key from secret
+     * Build the signing key, the parser and the verified-claims cache once
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedClaims = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > claimsCacheMaxEntries;
+            }
+        };
     }
 
     /**
      * Generate JWT token for a user
      */
-    public String generateToken(String email, String role) {
+    public String generateToken(String email, String role, Long userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
                 .subject(email)
                 .claim("role", role)
+                .claim(USER_ID_CLAIM, userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verify a token and return its claims, or empty if it is invalid or expired.
+     * Verified tokens are cached until they expire, so a repeated token is
+     * not parsed or verified again.
+     */
+    public Optional<Claims> parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        Claims claims;
+        synchronized (verifiedClaims) {
+            claims = verifiedClaims.get(digest);
+        }
+        if (claims != null) {
+            if (!isExpired(claims)) {
+                return Optional.of(claims);
+            }
+            synchronized (verifiedClaims) {
+                verifiedClaims.remove(digest);
+            }
+            return Optional.empty();
+        }
+
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (MalformedJwtException ex) {
+            log.debug("Invalid JWT token: {}", ex.getMessage());
+            return Optional.empty();
+        } catch (ExpiredJwtException ex) {
+            log.debug("Expired JWT token");
+            return Optional.empty();
+        } catch (UnsupportedJwtException ex) {
+            log.debug("Unsupported JWT token: {}", ex.getMessage());
+            return Optional.empty();
+        } catch (JwtException ex) {
+            log.warn("JWT signature validation failed: {}", ex.getMessage());
+            return Optional.empty();
+        } catch (IllegalArgumentException ex) {
+            log.debug("JWT claims string is empty");
+            return Optional.empty();
+        }
+        // Tokens without an expiry are not cached
+        if (claims.getExpiration() != null) {
+            synchronized (verifiedClaims) {
+                verifiedClaims.put(digest, claims);
+            }
+        }
+        return Optional.of(claims);
+    }
+
     /**
      * Extract email (subject) from token
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parseClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     /**
      * Extract role from token
      */
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("role", String.class);
+        return parseClaims(token)
+                .map(claims -> claims.get("role", String.class))
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     /**
      * Validate JWT token
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (MalformedJwtException ex) {
-            System.err.println("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            System.err.println("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            System.err.println("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            System.err.println("JWT claims string is empty");
-        }
-        return false;
+        return parseClaims(token).isPresent();
     }
 
     /**
-     * Check if token is expired
+     * Check if token is expired. Goes through parseClaims, so a token that
+     * fails verification counts as expired as well.
      */
     public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+        return parseClaims(token).isEmpty();
+    }
 
-            return claims.getExpiration().before(new Date());
-        } catch (ExpiredJwtException ex) {
-            return true;
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 }
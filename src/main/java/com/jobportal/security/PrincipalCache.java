@@ -0,0 +1,124 @@
+package com.jobportal.security;
+
+import com.jobportal.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Principal Cache - resolves the principal of a verified JWT without a
+ * database query per request
+ *
+ * Principals are cached by user ID (the token's uid claim), bounded by
+ * max-entries (least recently used evicted) and reloaded after ttl so that
+ * changes made outside the application are picked up. Changes to a user's
+ * status or credentials evict its entry explicitly (now and after commit).
+ *
+ * Part of the Security Layer
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final Map<Long, CachedPrincipal> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+            @Value("${jobportal.security.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${jobportal.security.principal-cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.principals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedPrincipal> eldest) {
+                return size() > PrincipalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Principal of the account a verified token was issued to, or empty if
+     * the account no longer exists or does not match the token.
+     * Tokens issued without a uid claim are resolved by email.
+     */
+    public Optional<UserPrincipal> resolve(Claims claims) {
+        Long userId = claims.get(JwtUtil.USER_ID_CLAIM, Long.class);
+        String email = claims.getSubject();
+        UserPrincipal principal = userId != null ? get(userId) : load(email);
+        if (principal == null || !principal.getEmail().equals(email)) {
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
+    /**
+     * Drop the cached principal of a user whose status or credentials change
+     */
+    public void evict(Long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A request racing with the transaction may have reloaded the old state
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    private UserPrincipal get(Long userId) {
+        CachedPrincipal cached;
+        synchronized (principals) {
+            cached = principals.get(userId);
+        }
+        if (cached != null && System.nanoTime() - cached.loadedAt < ttlNanos) {
+            return cached.principal;
+        }
+        UserPrincipal principal = userRepository.findById(userId).map(UserPrincipal::from).orElse(null);
+        put(principal);
+        return principal;
+    }
+
+    private UserPrincipal load(String email) {
+        UserPrincipal principal = userRepository.findByEmail(email).map(UserPrincipal::from).orElse(null);
+        put(principal);
+        return principal;
+    }
+
+    private void put(UserPrincipal principal) {
+        if (principal == null) {
+            return;
+        }
+        synchronized (principals) {
+            principals.put(principal.getUserId(), new CachedPrincipal(principal, System.nanoTime()));
+        }
+    }
+
+    private void remove(Long userId) {
+        synchronized (principals) {
+            principals.remove(userId);
+        }
+    }
+
+    private static final class CachedPrincipal {
+
+        private final UserPrincipal principal;
+        private final long loadedAt;
+
+        private CachedPrincipal(UserPrincipal principal, long loadedAt) {
+            this.principal = principal;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
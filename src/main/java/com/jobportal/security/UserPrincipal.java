@@ -0,0 +1,70 @@
+package com.jobportal.security;
+
+import com.jobportal.model.Role;
+import com.jobportal.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Authenticated principal of a JWT request
+ *
+ * Carries only what request handling needs (ID, email, role, active flag),
+ * so it can be cached without holding the User entity or its password.
+ *
+ * Part of the Security Layer
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String email;
+    private final Role role;
+    private final boolean active;
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getUserId(), user.getEmail(), user.getRole(),
+                Boolean.TRUE.equals(user.getIsActive()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
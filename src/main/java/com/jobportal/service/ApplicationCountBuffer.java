@@ -0,0 +1,150 @@
+package com.jobportal.service;
+
+import com.jobportal.search.JobSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write-behind buffer for Job.applicationsCount
+ *
+ * Applying for a job no longer updates the jobs row inside the apply
+ * transaction; committed applications and withdrawals are buffered and
+ * written every jobportal.applications.count-flush-interval, so concurrent
+ * applicants of a popular job do not queue on its row lock.
+ *
+ * The column is eventually consistent: reconcile() periodically resets it to
+ * the number of application rows for every job where the two disagree
+ * (lost buffers, direct database changes). It walks the jobs in job ID
+ * ranges with plain (non-locking) SELECTs and only writes the rows that
+ * drifted; jobs with a buffered delta are left to the next pass. Written and
+ * corrected counts are passed on to the search index for applicationsCount sorts.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Component
+public class ApplicationCountBuffer extends JobCounterBuffer {
+
+    // [job_id, applications_count, actual count] of the next range of jobs
+    private static final String RECONCILE_SCAN_SQL = "SELECT j.job_id, COALESCE(j.applications_count, -1), " +
+            "(SELECT COUNT(*) FROM applications a WHERE a.job_id = j.job_id) " +
+            "FROM jobs j WHERE j.job_id > ? ORDER BY j.job_id LIMIT ?";
+
+    // Only if the column still holds the value that was read
+    private static final String RECONCILE_UPDATE_SQL = "UPDATE jobs SET applications_count = ? " +
+            "WHERE job_id = ? AND COALESCE(applications_count, -1) = ?";
+
+    private final JobSearchIndex jobSearchIndex;
+    private final int reconcileBatchSize;
+
+    public ApplicationCountBuffer(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            JobSearchIndex jobSearchIndex,
+            @Value("${jobportal.applications.count-batch-size:500}") int batchSize,
+            @Value("${jobportal.applications.count-reconcile-batch-size:1000}") int reconcileBatchSize) {
+        super(jdbcTemplate, transactionTemplate, meterRegistry, "applications_count",
+                "jobportal.applications.count", batchSize);
+        this.jobSearchIndex = jobSearchIndex;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    /**
+     * Record an application for a job (applied after commit)
+     */
+    public void applied(Long jobId) {
+        afterCommit(() -> add(jobId, 1));
+    }
+
+    /**
+     * Record a withdrawn application (applied after commit)
+     */
+    public void withdrawn(Long jobId) {
+        afterCommit(() -> add(jobId, -1));
+    }
+
+    @Override
+    protected void written(List<Object[]> rows) {
+        Map<Long, Long> applications = new HashMap<>();
+        for (Object[] row : rows) {
+            applications.put((Long) row[1], (Long) row[0]);
+        }
+        jobSearchIndex.recordApplications(applications);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${jobportal.applications.count-flush-interval:PT2S}")
+    @PreDestroy
+    public void flush() {
+        super.flush();
+    }
+
+    /**
+     * Correct drifted counters from the applications table, reconcile-batch-size jobs at a time
+     */
+    @Scheduled(initialDelayString = "${jobportal.applications.count-reconcile-interval:PT30M}",
+            fixedDelayString = "${jobportal.applications.count-reconcile-interval:PT30M}")
+    public void reconcile() {
+        int corrected = 0;
+        long lastJobId = 0;
+        List<long[]> rows;
+        do {
+            rows = getJdbcTemplate().query(RECONCILE_SCAN_SQL,
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3) },
+                    lastJobId, reconcileBatchSize);
+            for (long[] row : rows) {
+                if (row[1] != row[2]) {
+                    corrected += correct(row[0], row[1], row[2]);
+                }
+            }
+            if (!rows.isEmpty()) {
+                lastJobId = rows.get(rows.size() - 1)[0];
+            }
+        } while (rows.size() == reconcileBatchSize);
+        if (corrected > 0) {
+            log.info("Corrected applications count of {} jobs", corrected);
+        }
+    }
+
+    /**
+     * Set one drifted counter, unless it has a buffered delta (the count read
+     * already includes those applications, the next flush would add them again)
+     * or was written since it was read. Synchronized with flush() so no delta
+     * is between the buffer and the database meanwhile.
+     */
+    private synchronized int correct(long jobId, long stored, long actual) {
+        if (pending(jobId) != 0) {
+            return 0;
+        }
+        int updated = getJdbcTemplate().update(RECONCILE_UPDATE_SQL, actual, jobId, stored);
+        if (updated > 0) {
+            jobSearchIndex.correctApplications(jobId, actual);
+        }
+        return updated;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.ApplicationDTO;
+import com.jobportal.exception.ResourceNotFoundException;
+import com.jobportal.model.Recruiter;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.RecruiterRepository;
+import com.jobportal.util.CsvWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Application Export Service - Business Logic Layer
+ *
+ * Streams all applications for a recruiter's jobs as CSV or NDJSON. Rows
+ * come from a single forward-only query (export projection, fetch size 500,
+ * read-only) inside a read-only transaction and are written to the response
+ * as they are read, so no entities are managed and memory use does not grow
+ * with the number of applications.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Service
+public class ApplicationExportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final List<String> CSV_HEADER = Arrays.asList("applicationId", "status", "appliedDate",
+            "reviewedDate", "interviewDate", "recruiterNotes", "resumeUrl", "jobId", "jobTitle", "companyName",
+            "location", "userId", "applicantName", "applicantEmail", "applicantPhone", "applicantSkills");
+
+    private final RecruiterRepository recruiterRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ApplicationExportService(RecruiterRepository recruiterRepository,
+            ApplicationRepository applicationRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.recruiterRepository = recruiterRepository;
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Export the applications for the recruiter profile of the given user.
+     * The recruiter is resolved now (so a missing profile is reported as an
+     * error response); the rows are read when the returned body is written.
+     */
+    public StreamingResponseBody exportByRecruiter(Long userId, Format format) {
+        Recruiter recruiter = recruiterRepository.findByUserUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
+        Long recruiterId = recruiter.getRecruiterId();
+
+        return outputStream -> {
+            long started = System.nanoTime();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            long rows = readOnlyTransaction.execute(status -> {
+                try (Stream<ApplicationDTO> applications =
+                        applicationRepository.streamExportRowsByRecruiterId(recruiterId)) {
+                    return format == Format.CSV
+                            ? writeCsv(applications.iterator(), writer)
+                            : writeNdjson(applications.iterator(), writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            log.info("Exported {} applications for recruiter {} in {} ms", rows, recruiterId,
+                    (System.nanoTime() - started) / 1_000_000);
+        };
+    }
+
+    private long writeCsv(Iterator<ApplicationDTO> applications, Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord(CSV_HEADER);
+        long rows = 0;
+        while (applications.hasNext()) {
+            ApplicationDTO a = applications.next();
+            csv.writeRecord(Arrays.asList(a.getApplicationId(), a.getStatus(), a.getAppliedDate(),
+                    a.getReviewedDate(), a.getInterviewDate(), a.getRecruiterNotes(), a.getResumeUrl(),
+                    a.getJobId(), a.getJobTitle(), a.getCompanyName(), a.getLocation(), a.getUserId(),
+                    a.getApplicantName(), a.getApplicantEmail(), a.getApplicantPhone(), a.getApplicantSkills()));
+            rows++;
+        }
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<ApplicationDTO> applications, Writer writer) throws IOException {
+        long rows = 0;
+        while (applications.hasNext()) {
+            writer.write(objectMapper.writeValueAsString(applications.next()));
+            writer.write('\n');
+            rows++;
+        }
+        return rows;
+    }
+}
@@ -1,8 +1,12 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.ApplicationBatchStatusUpdateRequest;
+import com.jobportal.dto.ApplicationBatchStatusUpdateResult;
 import com.jobportal.dto.ApplicationDTO;
 import com.jobportal.dto.ApplicationRequest;
 import com.jobportal.dto.ApplicationStatusUpdateRequest;
+import com.jobportal.dto.CountMode;
+import com.jobportal.dto.ResultSlice;
 import com.jobportal.exception.BadRequestException;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.exception.UnauthorizedException;
@@ -15,12 +19,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +49,9 @@ public class ApplicationService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final RecruiterRepository recruiterRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final PlatformStatistics platformStatistics;
+    private final ApplicationCountBuffer applicationCountBuffer;
 
     /**
      * Apply for a job
@@ -76,8 +90,9 @@ public class ApplicationService {
 
         Application savedApplication = applicationRepository.save(application);
 
-        // Increment job application count
-        jobRepository.incrementApplicationCount(job.getJobId());
+        // Job application count is written behind, outside this transaction
+        applicationCountBuffer.applied(job.getJobId());
+        platformStatistics.applicationsChanged(1);
 
         return mapToApplicationDTO(savedApplication);
     }
@@ -141,6 +156,32 @@ public class ApplicationService {
         return applications.map(this::mapToApplicationDTO);
     }
 
+    /**
+     * Get all applications for recruiter's jobs with a selectable total (see CountMode).
+     * NONE and APPROXIMATE skip the COUNT query; the approximate total is a
+     * count cached for a short time per recruiter.
+     */
+    public ResultSlice<ApplicationDTO> getApplicationsByRecruiterSlice(Long userId, int page, int size,
+            CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            Page<ApplicationDTO> applications = getApplicationsByRecruiter(userId, page, size);
+            return ResultSlice.of(applications, applications.getTotalElements(), false);
+        }
+        Recruiter recruiter = recruiterRepository.findByUserUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
+        Long recruiterId = recruiter.getRecruiterId();
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("appliedDate").descending());
+        Slice<ApplicationDTO> applications = applicationRepository.findSliceByRecruiterId(recruiterId, pageable)
+                .map(this::mapToApplicationDTO);
+        if (countMode == CountMode.NONE) {
+            return ResultSlice.of(applications, null, false);
+        }
+        long total = approximateCountCache.get("applications:recruiter:" + recruiterId,
+                () -> applicationRepository.countByRecruiterId(recruiterId));
+        return ResultSlice.of(applications, total, true);
+    }
+
     /**
      * Update application status (for recruiter)
      */
@@ -178,6 +219,73 @@ public class ApplicationService {
         return mapToApplicationDTO(updatedApplication);
     }
 
+    /**
+     * Update the status of several applications at once (for recruiter)
+     *
+     * Ownership of all requested applications is checked with one query and
+     * the owned ones are updated with one bulk UPDATE; the others are reported
+     * as NOT_FOUND or FORBIDDEN instead of failing the whole batch.
+     */
+    @Transactional
+    public ApplicationBatchStatusUpdateResult updateApplicationStatuses(Long userId,
+            ApplicationBatchStatusUpdateRequest request) {
+        ApplicationStatus status;
+        try {
+            status = ApplicationStatus.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status value");
+        }
+
+        LocalDateTime interviewDate = null;
+        if (request.getInterviewDate() != null) {
+            try {
+                interviewDate = LocalDateTime.parse(request.getInterviewDate());
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("Invalid interview date, expected ISO format (e.g. 2024-05-01T10:00)");
+            }
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>(request.getApplicationIds());
+        requestedIds.remove(null);
+        Map<Long, Long> ownerByApplicationId = new HashMap<>();
+        for (Object[] row : applicationRepository.findRecruiterUserIdsByApplicationIds(requestedIds)) {
+            ownerByApplicationId.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<ApplicationBatchStatusUpdateResult.Item> results = new ArrayList<>(requestedIds.size());
+        List<Long> ownedIds = new ArrayList<>();
+        int notFound = 0;
+        int forbidden = 0;
+        for (Long applicationId : requestedIds) {
+            Long ownerId = ownerByApplicationId.get(applicationId);
+            ApplicationBatchStatusUpdateResult.Outcome outcome;
+            if (ownerId == null) {
+                outcome = ApplicationBatchStatusUpdateResult.Outcome.NOT_FOUND;
+                notFound++;
+            } else if (!ownerId.equals(userId)) {
+                outcome = ApplicationBatchStatusUpdateResult.Outcome.FORBIDDEN;
+                forbidden++;
+            } else {
+                outcome = ApplicationBatchStatusUpdateResult.Outcome.UPDATED;
+                ownedIds.add(applicationId);
+            }
+            results.add(new ApplicationBatchStatusUpdateResult.Item(applicationId, outcome));
+        }
+
+        if (!ownedIds.isEmpty()) {
+            applicationRepository.updateStatusByIds(ownedIds, status, request.getRecruiterNotes(),
+                    interviewDate, LocalDateTime.now());
+        }
+
+        return ApplicationBatchStatusUpdateResult.builder()
+                .status(status.name())
+                .updated(ownedIds.size())
+                .notFound(notFound)
+                .forbidden(forbidden)
+                .results(results)
+                .build();
+    }
+
     /**
      * Withdraw application (for job seeker)
      */
@@ -198,6 +306,8 @@ public class ApplicationService {
         }
 
         applicationRepository.delete(application);
+        applicationCountBuffer.withdrawn(application.getJob().getJobId());
+        platformStatistics.applicationsChanged(-1);
     }
 
     /**
@@ -214,10 +324,11 @@ public class ApplicationService {
      * Count applications by status for a user
      */
     public long countApplicationsByUserAndStatus(Long userId, ApplicationStatus status) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
 
-        return applicationRepository.findByUserAndStatus(user, status).size();
+        return applicationRepository.countByUserIdAndStatus(userId, status);
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.jobportal.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate Count Cache - remembers COUNT results for a short time
+ *
+ * Backs CountMode.APPROXIMATE for listings that have no cheaper estimate:
+ * the expensive count runs at most once per key and TTL, and the returned
+ * value may lag behind the table by up to the TTL.
+ */
+@Component
+public class ApproximateCountCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlNanos;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public ApproximateCountCache(@Value("${jobportal.pagination.approximate-count-ttl:60s}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Return the cached count for the key, computing it when missing or expired
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.computedAt < ttlNanos) {
+            return cached.value;
+        }
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        long value = counter.getAsLong();
+        counts.put(key, new CachedCount(value, now));
+        return value;
+    }
+
+    private static final class CachedCount {
+
+        private final long value;
+        private final long computedAt;
+
+        private CachedCount(long value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import com.jobportal.model.User;
 import com.jobportal.repository.RecruiterRepository;
 import com.jobportal.repository.UserRepository;
 import com.jobportal.security.JwtUtil;
+import com.jobportal.security.UserPrincipal;
+import com.jobportal.search.NameSearchIndexes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -34,6 +36,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final NameSearchIndexes nameSearchIndexes;
+    private final PlatformStatistics platformStatistics;
 
     /**
      * Register a new user (Job Seeker or Recruiter)
@@ -63,6 +67,8 @@ public class AuthService {
         user.setIsActive(true);
 
         User savedUser = userRepository.save(user);
+        nameSearchIndexes.userNameChanged(savedUser.getUserId(), savedUser.getName());
+        platformStatistics.userRegistered(role);
 
         // If registering as recruiter, create recruiter profile
         if (role == Role.RECRUITER) {
@@ -75,11 +81,12 @@ public class AuthService {
             recruiter.setCompanyDescription(request.getCompanyDescription());
             recruiter.setUser(savedUser);
             recruiter.setIsVerified(false);
-            recruiterRepository.save(recruiter);
+            Recruiter savedRecruiter = recruiterRepository.save(recruiter);
+            nameSearchIndexes.companyNameChanged(savedRecruiter.getRecruiterId(), savedRecruiter.getCompanyName());
         }
 
         // Generate JWT token
-        String token = jwtUtil.generateToken(savedUser.getEmail(), savedUser.getRole().name());
+        String token = jwtUtil.generateToken(savedUser.getEmail(), savedUser.getRole().name(), savedUser.getUserId());
 
         return new AuthResponse(
                 token,
@@ -111,7 +118,7 @@ public class AuthService {
         }
 
         // Generate JWT token
-        String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
+        String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getUserId());
 
         return new AuthResponse(
                 token,
@@ -125,9 +132,21 @@ public class AuthService {
      * Get current authenticated user
      */
     public User getCurrentUser() {
+        return userRepository.findById(getCurrentUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    /**
+     * Get the ID of the current authenticated user (from the request principal, no database query)
+     */
+    public Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        String email = authentication != null ? authentication.getName() : null;
         return userRepository.findByEmail(email)
+                .map(User::getUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
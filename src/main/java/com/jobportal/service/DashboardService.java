@@ -2,15 +2,15 @@ package com.jobportal.service;
 
 import com.jobportal.dto.DashboardStats;
 import com.jobportal.model.ApplicationStatus;
-import com.jobportal.model.Role;
-import com.jobportal.model.User;
 import com.jobportal.repository.ApplicationRepository;
 import com.jobportal.repository.JobRepository;
-import com.jobportal.repository.RecruiterRepository;
-import com.jobportal.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Dashboard Service - Business Logic Layer
  * 
@@ -22,26 +22,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final UserRepository userRepository;
     private final JobRepository jobRepository;
-    private final RecruiterRepository recruiterRepository;
     private final ApplicationRepository applicationRepository;
     private final RecruiterService recruiterService;
-    private final ApplicationService applicationService;
+    private final PlatformStatistics platformStatistics;
 
     /**
-     * Get admin dashboard statistics
+     * Get admin dashboard statistics (served from in-memory counters)
      */
     public DashboardStats getAdminStats() {
-        return DashboardStats.builder()
-                .totalUsers(userRepository.count())
-                .totalJobSeekers(userRepository.countByRole(Role.JOB_SEEKER))
-                .totalRecruiters(userRepository.countByRole(Role.RECRUITER))
-                .totalJobs(jobRepository.count())
-                .activeJobs(jobRepository.countByIsActiveTrue())
-                .totalApplications(applicationRepository.count())
-                .pendingVerifications(recruiterRepository.countByIsVerifiedFalse())
-                .build();
+        return platformStatistics.snapshot();
     }
 
     /**
@@ -51,20 +41,23 @@ public class DashboardService {
         var recruiter = recruiterService.getRecruiterEntityByUserId(userId);
         Long recruiterId = recruiter.getRecruiterId();
 
-        long myJobs = jobRepository.countByRecruiter(recruiter);
-        long activeJobs = recruiter.getJobs().stream()
-                .filter(job -> job.getIsActive())
-                .count();
+        // Two grouped aggregates; nothing is loaded per job or per application
+        long myJobs = 0;
+        long activeJobs = 0;
+        for (Object[] row : jobRepository.countByRecruiterGroupByActive(recruiterId)) {
+            long count = ((Number) row[1]).longValue();
+            myJobs += count;
+            if (Boolean.TRUE.equals(row[0])) {
+                activeJobs += count;
+            }
+        }
 
-        var applications = applicationRepository.findByRecruiterId(recruiterId);
-        long totalApplications = applications.size();
-        long shortlisted = applications.stream()
-                .filter(a -> a.getStatus() == ApplicationStatus.SHORTLISTED)
-                .count();
-        long pending = applications.stream()
-                .filter(a -> a.getStatus() == ApplicationStatus.APPLIED ||
-                        a.getStatus() == ApplicationStatus.UNDER_REVIEW)
-                .count();
+        Map<ApplicationStatus, Long> byStatus = countByStatus(
+                applicationRepository.getApplicationStatsByRecruiter(recruiterId));
+        long totalApplications = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        long shortlisted = byStatus.getOrDefault(ApplicationStatus.SHORTLISTED, 0L);
+        long pending = byStatus.getOrDefault(ApplicationStatus.APPLIED, 0L) +
+                byStatus.getOrDefault(ApplicationStatus.UNDER_REVIEW, 0L);
 
         return DashboardStats.builder()
                 .myJobs(myJobs)
@@ -75,25 +68,32 @@ public class DashboardService {
                 .build();
     }
 
+    /**
+     * Convert [status, count] rows of a GROUP BY status query into a map
+     */
+    private Map<ApplicationStatus, Long> countByStatus(List<Object[]> rows) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (Object[] row : rows) {
+            counts.put((ApplicationStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
     /**
      * Get job seeker dashboard statistics
      */
     public DashboardStats getJobSeekerStats(Long userId) {
-        User user = userRepository.findById(userId).orElseThrow();
-
-        long applied = applicationService.countApplicationsByUserAndStatus(userId, ApplicationStatus.APPLIED) +
-                applicationService.countApplicationsByUserAndStatus(userId, ApplicationStatus.UNDER_REVIEW);
-        long shortlisted = applicationService.countApplicationsByUserAndStatus(userId, ApplicationStatus.SHORTLISTED);
-        long interviews = applicationService.countApplicationsByUserAndStatus(userId,
-                ApplicationStatus.INTERVIEW_SCHEDULED);
-        long rejected = applicationService.countApplicationsByUserAndStatus(userId, ApplicationStatus.REJECTED);
+        // One grouped count over the (user_id, status) index
+        Map<ApplicationStatus, Long> byStatus = countByStatus(
+                applicationRepository.getApplicationStatsByUser(userId));
+        long appliedJobs = byStatus.values().stream().mapToLong(Long::longValue).sum();
 
         return DashboardStats.builder()
-                .appliedJobs(applicationRepository.countByUser(user))
-                .shortlistedCount(shortlisted)
-                .interviewScheduledCount(interviews)
-                .rejectedCount(rejected)
-                .activeJobs(jobRepository.countByIsActiveTrue())
+                .appliedJobs(appliedJobs)
+                .shortlistedCount(byStatus.getOrDefault(ApplicationStatus.SHORTLISTED, 0L))
+                .interviewScheduledCount(byStatus.getOrDefault(ApplicationStatus.INTERVIEW_SCHEDULED, 0L))
+                .rejectedCount(byStatus.getOrDefault(ApplicationStatus.REJECTED, 0L))
+                .activeJobs(platformStatistics.getActiveJobs())
                 .build();
     }
 }
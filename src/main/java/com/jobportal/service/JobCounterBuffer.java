@@ -0,0 +1,173 @@
+package com.jobportal.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for one counter column of the jobs table
+ *
+ * Callers only add to a per-job LongAdder; flush() writes the accumulated
+ * deltas in batched UPDATEs, so a hot job costs one row update per flush
+ * instead of one per event. Rows are updated in job ID order to keep lock
+ * ordering consistent. Each batch is written in its own transaction, so a
+ * failed batch is rolled back as a whole and its deltas (and those of the
+ * batches after it) are put back into the buffer for the next flush. Jobs
+ * with nothing pending are dropped from the buffer after a flush.
+ * Subclasses decide when to flush.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+public abstract class JobCounterBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String column;
+    private final String incrementSql;
+    private final int batchSize;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private volatile long lastFlushNanos = System.nanoTime();
+
+    /**
+     * @param column       counter column of the jobs table
+     * @param metricPrefix prefix of the flush metrics (e.g. "jobportal.views")
+     */
+    protected JobCounterBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry, String column, String metricPrefix, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.column = column;
+        this.incrementSql = "UPDATE jobs SET " + column + " = " + column + " + ? WHERE job_id = ?";
+        this.batchSize = batchSize;
+
+        this.flushTimer = Timer.builder(metricPrefix + ".flush")
+                .description("Time spent writing buffered " + column + " increments").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder(metricPrefix + ".flush.batch.size")
+                .description("Jobs updated per " + column + " flush").register(meterRegistry);
+        Gauge.builder(metricPrefix + ".pending", this, JobCounterBuffer::pendingTotal)
+                .description("Buffered " + column + " increments not yet written to the database")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".flush.lag", this, JobCounterBuffer::secondsSinceLastFlush)
+                .description("Seconds since buffered " + column + " increments were last written")
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    /**
+     * Add to the counter of a job
+     */
+    public void add(Long jobId, long delta) {
+        LongAdder adder = pending.computeIfAbsent(jobId, id -> new LongAdder());
+        adder.add(delta);
+        if (pending.get(jobId) != adder) {
+            // Dropped as idle by a concurrent flush: move what is left to the current adder
+            long moved = adder.sumThenReset();
+            if (moved != 0) {
+                add(jobId, moved);
+            }
+        }
+    }
+
+    /**
+     * Amount added to the counter of a job but not yet written
+     */
+    public long pending(Long jobId) {
+        LongAdder delta = pending.get(jobId);
+        return delta != null ? delta.sum() : 0;
+    }
+
+    /**
+     * Write all buffered deltas to the database
+     */
+    public synchronized void flush() {
+        List<Object[]> rows = drain();
+        if (rows.isEmpty()) {
+            lastFlushNanos = System.nanoTime();
+            return;
+        }
+        flushTimer.record(() -> {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(incrementSql, batch));
+                    batchSizes.record(batch.size());
+                    written(batch);
+                } catch (DataAccessException e) {
+                    log.warn("Could not write {} buffered {} updates, retrying on next flush",
+                            rows.size() - from, column, e);
+                    restore(rows.subList(from, rows.size()));
+                    return;
+                }
+            }
+            dropIdle();
+            lastFlushNanos = System.nanoTime();
+        });
+    }
+
+    /**
+     * Called after a batch of [delta, jobId] rows has been committed
+     */
+    protected void written(List<Object[]> rows) {
+    }
+
+    protected JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * Take the current deltas as [delta, jobId] rows ordered by job ID.
+     * Adders stay in the map so concurrent increments are never dropped.
+     */
+    private List<Object[]> drain() {
+        List<Object[]> rows = new ArrayList<>();
+        pending.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long delta = entry.getValue().sumThenReset();
+                    if (delta != 0) {
+                        rows.add(new Object[] { delta, entry.getKey() });
+                    }
+                });
+        return rows;
+    }
+
+    /**
+     * Remove jobs with nothing pending (e.g. deleted or no longer viewed);
+     * add() moves a delta that races with the removal to a new adder
+     */
+    private void dropIdle() {
+        pending.forEach((jobId, adder) -> {
+            if (adder.sum() == 0) {
+                pending.remove(jobId, adder);
+            }
+        });
+    }
+
+    private void restore(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            add((Long) row[1], (Long) row[0]);
+        }
+    }
+
+    private double pendingTotal() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private double secondsSinceLastFlush() {
+        return (System.nanoTime() - lastFlushNanos) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,366 @@
+package com.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.dto.JobImportResult;
+import com.jobportal.dto.JobRequest;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.exception.BadRequestException;
+import com.jobportal.exception.ResourceNotFoundException;
+import com.jobportal.model.Recruiter;
+import com.jobportal.repository.RecruiterRepository;
+import com.jobportal.search.JobDocument;
+import com.jobportal.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Job Import Service - Business Logic Layer
+ *
+ * Bulk job posting from a streamed CSV or NDJSON body. The recruiter is
+ * resolved once; rows are parsed and validated as they arrive (same rules as
+ * POST /api/jobs) and inserted with JDBC batches of batch-size rows, each
+ * batch in its own transaction. Only the current batch and the first
+ * max-errors row errors are held in memory, whatever the size of the input.
+ * Every inserted job is published as a JobChangedEvent like a single create.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Service
+public class JobImportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO jobs (title, description, requirements, skills, " +
+            "location, job_type, experience_level, min_salary, max_salary, salary_currency, vacancies, " +
+            "application_deadline, is_active, is_remote, views_count, applications_count, recruiter_id, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, 0, 0, ?, ?, ?)";
+
+    // CSV header names accepted (JobRequest properties)
+    private static final Set<String> CSV_COLUMNS = Set.of("title", "description", "requirements", "skills",
+            "location", "jobType", "experienceLevel", "minSalary", "maxSalary", "salaryCurrency", "vacancies",
+            "applicationDeadline", "isRemote");
+
+    private final RecruiterRepository recruiterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public JobImportService(RecruiterRepository recruiterRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${jobportal.jobs.import.batch-size:200}") int batchSize,
+            @Value("${jobportal.jobs.import.max-errors:100}") int maxErrors) {
+        this.recruiterRepository = recruiterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Import jobs for the recruiter profile of the given user
+     */
+    public JobImportResult importJobs(Long userId, InputStream body, Format format) {
+        Recruiter recruiter = recruiterRepository.findByUserUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Recruiter profile not found. Please complete your profile first."));
+
+        Progress progress = new Progress();
+        List<Row> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RowReader rows = format == Format.CSV ? csvRows(reader) : ndjsonRows(reader);
+            for (Row row = rows.next(); row != null; row = rows.next()) {
+                if (row.error == null) {
+                    row.error = validate(row.request);
+                }
+                if (row.error != null) {
+                    progress.reject(row.line, row.error);
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    insert(recruiter, batch, progress);
+                    batch.clear();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            insert(recruiter, batch, progress);
+            throw new BadRequestException("Could not read import body after " + progress.imported
+                    + " imported jobs: " + e.getMessage(), e);
+        }
+        insert(recruiter, batch, progress);
+
+        return JobImportResult.builder()
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    /**
+     * Insert one batch in its own transaction and publish the new jobs
+     */
+    private void insert(Recruiter recruiter, List<Row> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                KeyHolder keys = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(INSERT_SQL, new String[] { "job_id" }),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                bind(ps, batch.get(i).request, recruiter, now);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return batch.size();
+                            }
+                        },
+                        keys);
+
+                List<Map<String, Object>> generated = keys.getKeyList();
+                for (int i = 0; i < batch.size(); i++) {
+                    Long jobId = ((Number) generated.get(i).values().iterator().next()).longValue();
+                    eventPublisher.publishEvent(new JobChangedEvent(null,
+                            document(jobId, batch.get(i).request, recruiter, now)));
+                }
+            });
+            progress.imported += batch.size();
+        } catch (DataAccessException e) {
+            log.warn("Job import batch of {} rows failed", batch.size(), e);
+            String message = "Could not be saved: " + e.getMostSpecificCause().getMessage();
+            for (Row row : batch) {
+                progress.reject(row.line, message);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, JobRequest request, Recruiter recruiter, LocalDateTime now)
+            throws SQLException {
+        ps.setString(1, request.getTitle());
+        ps.setString(2, request.getDescription());
+        ps.setString(3, request.getRequirements());
+        ps.setString(4, request.getSkills());
+        ps.setString(5, request.getLocation());
+        ps.setString(6, request.getJobType());
+        ps.setString(7, request.getExperienceLevel());
+        ps.setObject(8, request.getMinSalary(), Types.DOUBLE);
+        ps.setObject(9, request.getMaxSalary(), Types.DOUBLE);
+        ps.setString(10, request.getSalaryCurrency() != null ? request.getSalaryCurrency() : "INR");
+        ps.setInt(11, request.getVacancies() != null ? request.getVacancies() : 1);
+        ps.setDate(12, request.getApplicationDeadline() != null ? Date.valueOf(request.getApplicationDeadline()) : null);
+        ps.setBoolean(13, Boolean.TRUE.equals(request.getIsRemote()));
+        ps.setLong(14, recruiter.getRecruiterId());
+        ps.setTimestamp(15, Timestamp.valueOf(now));
+        ps.setTimestamp(16, Timestamp.valueOf(now));
+    }
+
+    private static JobDocument document(Long jobId, JobRequest request, Recruiter recruiter, LocalDateTime now) {
+        return JobDocument.builder()
+                .jobId(jobId)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .requirements(request.getRequirements())
+                .location(request.getLocation())
+                .skills(request.getSkills())
+                .jobType(request.getJobType())
+                .experienceLevel(request.getExperienceLevel())
+                .minSalary(request.getMinSalary())
+                .maxSalary(request.getMaxSalary())
+                .salaryCurrency(request.getSalaryCurrency() != null ? request.getSalaryCurrency() : "INR")
+                .vacancies(request.getVacancies() != null ? request.getVacancies() : 1)
+                .applicationDeadline(request.getApplicationDeadline())
+                .remote(Boolean.TRUE.equals(request.getIsRemote()))
+                .active(true)
+                .recruiterId(recruiter.getRecruiterId())
+                .companyName(recruiter.getCompanyName())
+                .headquarters(recruiter.getHeadquarters())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private String validate(JobRequest request) {
+        Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * CSV with a header row naming JobRequest properties, in any order
+     */
+    private RowReader csvRows(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream().map(String::trim).collect(Collectors.toList());
+        List<String> unknown = columns.stream().filter(c -> !CSV_COLUMNS.contains(c)).collect(Collectors.toList());
+        if (!unknown.isEmpty()) {
+            throw new BadRequestException("Unknown CSV columns: " + String.join(", ", unknown));
+        }
+
+        return () -> {
+            List<String> record;
+            try {
+                record = csv.readRecord();
+                while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+                    record = csv.readRecord();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (record == null) {
+                return null;
+            }
+            long line = csv.getRecordLineNumber();
+            if (record.size() != columns.size()) {
+                return Row.error(line, "Expected " + columns.size() + " fields but found " + record.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                if (!record.get(i).isBlank()) {
+                    values.put(columns.get(i), record.get(i).trim());
+                }
+            }
+            try {
+                return Row.of(line, objectMapper.convertValue(values, JobRequest.class));
+            } catch (IllegalArgumentException e) {
+                return Row.error(line, "Invalid value: " + rootMessage(e));
+            }
+        };
+    }
+
+    /**
+     * One JobRequest JSON object per line
+     */
+    private RowReader ndjsonRows(BufferedReader reader) {
+        long[] lineNumber = { 0 };
+        return () -> {
+            String line;
+            try {
+                do {
+                    line = reader.readLine();
+                    lineNumber[0]++;
+                } while (line != null && line.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (line == null) {
+                return null;
+            }
+            try {
+                return Row.of(lineNumber[0], objectMapper.readValue(line, JobRequest.class));
+            } catch (JsonProcessingException e) {
+                return Row.error(lineNumber[0], "Invalid JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage();
+        int end = message != null ? message.indexOf('\n') : -1;
+        return end > 0 ? message.substring(0, end) : message;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        Row next();
+    }
+
+    /**
+     * A parsed input row: a request to insert, or the reason it was rejected
+     */
+    private static final class Row {
+
+        private final long line;
+        private final JobRequest request;
+        private String error;
+
+        private Row(long line, JobRequest request, String error) {
+            this.line = line;
+            this.request = request;
+            this.error = error;
+        }
+
+        static Row of(long line, JobRequest request) {
+            return new Row(line, request, null);
+        }
+
+        static Row error(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+
+    /**
+     * Running totals and the first maxErrors row errors
+     */
+    private final class Progress {
+
+        private long imported;
+        private long failed;
+        private final List<JobImportResult.RowError> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new JobImportResult.RowError(line, message));
+            }
+        }
+    }
+}
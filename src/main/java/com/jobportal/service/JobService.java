@@ -1,8 +1,15 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.CountMode;
+import com.jobportal.dto.CursorPage;
+import com.jobportal.dto.JobCursor;
 import com.jobportal.dto.JobDTO;
+import com.jobportal.dto.JobFacetedSearchResponse;
 import com.jobportal.dto.JobRequest;
 import com.jobportal.dto.JobSearchRequest;
+import com.jobportal.dto.ResultSlice;
+import com.jobportal.dto.SuggestionDTO;
+import com.jobportal.event.JobChangedEvent;
 import com.jobportal.exception.BadRequestException;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.exception.UnauthorizedException;
@@ -11,16 +18,36 @@ import com.jobportal.model.Recruiter;
 import com.jobportal.model.User;
 import com.jobportal.repository.JobRepository;
 import com.jobportal.repository.RecruiterRepository;
+import com.jobportal.search.Gazetteer;
+import com.jobportal.search.JobDocument;
+import com.jobportal.search.JobSearchCache;
+import com.jobportal.search.JobSearchIndex;
+import com.jobportal.search.JobSuggester;
+import com.jobportal.search.NameSearchIndexes;
+import com.jobportal.search.PopularJobs;
+import com.jobportal.search.SalaryNormalizer;
+import com.jobportal.search.SearchHits;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,8 +61,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JobService {
 
+    private static final double MAX_RADIUS_KM = 1000;
+
     private final JobRepository jobRepository;
     private final RecruiterRepository recruiterRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobSearchCache jobSearchCache;
+    private final JobSuggester jobSuggester;
+    private final NameSearchIndexes nameSearchIndexes;
+    private final Gazetteer gazetteer;
+    private final SalaryNormalizer salaryNormalizer;
+    private final ApproximateCountCache approximateCountCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PopularJobs popularJobs;
+    private final RecentJobsCache recentJobsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new job posting
@@ -64,6 +104,7 @@ public class JobService {
         job.setRecruiter(recruiter);
 
         Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(null, JobDocument.from(savedJob)));
         return mapToJobDTO(savedJob);
     }
 
@@ -79,6 +120,7 @@ public class JobService {
         if (!job.getRecruiter().getUser().getUserId().equals(userId)) {
             throw new UnauthorizedException("You are not authorized to update this job");
         }
+        JobDocument previous = JobDocument.from(job);
 
         if (request.getTitle() != null) {
             job.setTitle(request.getTitle());
@@ -121,6 +163,7 @@ public class JobService {
         }
 
         Job updatedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(previous, JobDocument.from(updatedJob)));
         return mapToJobDTO(updatedJob);
     }
 
@@ -136,23 +179,29 @@ public class JobService {
         if (!job.getRecruiter().getUser().getUserId().equals(userId)) {
             throw new UnauthorizedException("You are not authorized to delete this job");
         }
+        JobDocument previous = JobDocument.from(job);
 
         job.setIsActive(false);
-        jobRepository.save(job);
+        Job deletedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(previous, JobDocument.from(deletedJob)));
     }
 
     /**
      * Get job by ID
+     *
+     * The view is recorded in the write-behind ViewCountBuffer; the returned
+     * count includes views not yet written to the database.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public JobDTO getJobById(Long jobId) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
 
-        // Increment view count
-        jobRepository.incrementViewCount(jobId);
+        viewCountBuffer.record(jobId);
 
-        return mapToJobDTO(job);
+        JobDTO jobDTO = mapToJobDTO(job);
+        jobDTO.setViewsCount((int) (job.getViewsCount() + viewCountBuffer.pending(jobId)));
+        return jobDTO;
     }
 
     /**
@@ -168,29 +217,129 @@ public class JobService {
      */
     public Page<JobDTO> getAllActiveJobs(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Job> jobs = jobRepository.findByIsActiveTrue(pageable);
-        return jobs.map(this::mapToJobDTO);
+        return jobRepository.findActiveJobListings(pageable);
+    }
+
+    /**
+     * Get active jobs with a selectable total (see CountMode).
+     * NONE and APPROXIMATE skip the COUNT query; the approximate total comes
+     * from the search index, or from a briefly cached count while it is not built.
+     */
+    public ResultSlice<JobDTO> getActiveJobsSlice(int page, int size, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            Page<JobDTO> jobs = getAllActiveJobs(page, size);
+            return ResultSlice.of(jobs, jobs.getTotalElements(), false);
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Slice<JobDTO> jobs = jobRepository.findActiveJobListingsSlice(pageable);
+        if (countMode == CountMode.NONE) {
+            return ResultSlice.of(jobs, null, false);
+        }
+        OptionalLong indexed = jobSearchIndex.count(new JobSearchRequest());
+        long total = indexed.isPresent()
+                ? indexed.getAsLong()
+                : approximateCountCache.get("jobs:active", jobRepository::countByIsActiveTrue);
+        return ResultSlice.of(jobs, total, true);
+    }
+
+    /**
+     * Get active jobs with keyset pagination (newest first)
+     */
+    public CursorPage<JobDTO> getActiveJobsAfter(String cursor, int size) {
+        JobCursor position = JobCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<JobDTO> jobs = position == null
+                ? jobRepository.findActiveJobsNewestFirst(limit)
+                : jobRepository.findActiveJobsAfter(position.getCreatedAt(), position.getJobId(), limit);
+        return toCursorPage(jobs, size);
     }
 
     /**
      * Search jobs with filters
+     *
+     * Matching and sorting are resolved by the in-memory search index (through
+     * the search result cache); only the returned page is loaded from the database.
      */
     public Page<JobDTO> searchJobs(JobSearchRequest request) {
-        Sort sort = request.getSortDirection().equalsIgnoreCase("ASC")
-                ? Sort.by(request.getSortBy()).ascending()
-                : Sort.by(request.getSortBy()).descending();
+        return search(request, false).getResults();
+    }
+
+    /**
+     * Search jobs with filters and return facet counts for all matching jobs
+     * (jobType, experienceLevel, location, isRemote) together with the page
+     */
+    public JobFacetedSearchResponse searchJobsWithFacets(JobSearchRequest request) {
+        return search(request, true);
+    }
+
+    /**
+     * Search jobs with filters and a selectable total (see CountMode).
+     * The search index knows the exact total without a COUNT query, so
+     * APPROXIMATE reports it as well and only NONE leaves it out.
+     */
+    public ResultSlice<JobDTO> searchJobsSlice(JobSearchRequest request, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            Page<JobDTO> jobs = searchJobs(request);
+            return ResultSlice.of(jobs, jobs.getTotalElements(), false);
+        }
+        Pageable pageable = searchPageable(request);
+        validateCriteria(request);
+
+        SearchHits hits = jobSearchCache.search(request, pageable, false);
+        List<JobDTO> content = loadJobsInOrder(hits.getJobIds());
+        long total = hits.getTotalHits();
+        boolean hasNext = pageable.getOffset() + pageable.getPageSize() < total;
+        return ResultSlice.of(new SliceImpl<>(content, pageable, hasNext),
+                countMode == CountMode.NONE ? null : total, false);
+    }
+
+    private JobFacetedSearchResponse search(JobSearchRequest request, boolean includeFacets) {
+        Pageable pageable = searchPageable(request);
+        validateCriteria(request);
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+        SearchHits hits = jobSearchCache.search(request, pageable, includeFacets);
+        List<JobDTO> content = loadJobsInOrder(hits.getJobIds());
+        return new JobFacetedSearchResponse(
+                new PageImpl<>(content, pageable, hits.getTotalHits()),
+                hits.getFacets());
+    }
 
-        Page<Job> jobs = jobRepository.advancedSearch(
-                request.getKeyword(),
-                request.getLocation(),
-                request.getSkill(),
-                request.getJobType(),
-                request.getExperienceLevel(),
-                pageable);
+    /**
+     * Search jobs with filters using keyset pagination (newest first).
+     * The sort fields of the request are ignored; request.cursor selects the page.
+     */
+    public CursorPage<JobDTO> searchJobsAfter(JobSearchRequest request) {
+        JobCursor position = JobCursor.decode(request.getCursor());
+        LocalDateTime createdAt = position != null ? position.getCreatedAt() : null;
+        Long jobId = position != null ? position.getJobId() : null;
+        int size = request.getSize();
+        Pageable limit = cursorLimit(size);
+        validateCriteria(request);
 
-        return jobs.map(this::mapToJobDTO);
+        List<Long> jobIds = jobSearchIndex.searchAfter(request, createdAt, jobId, limit.getPageSize());
+        return toCursorPage(loadJobsInOrder(jobIds), size);
+    }
+
+    /**
+     * Search active jobs by title, tolerating typos ("devloper").
+     * Exact and substring matches rank first; very short queries and searches
+     * before the index is built use a plain substring match.
+     */
+    public List<JobDTO> searchJobsByTitle(String title, int limit) {
+        Optional<List<Long>> jobIds = nameSearchIndexes.getJobTitles().search(title, limit);
+        if (jobIds.isPresent()) {
+            return loadJobsInOrder(jobIds.get());
+        }
+        Pageable pageable = PageRequest.of(0, limit, Sort.by("createdAt").descending());
+        return jobRepository.searchJobListingsByTitle(title, pageable);
+    }
+
+    /**
+     * Suggest titles, skills, locations and company names for the search box,
+     * ranked by the number of active jobs they occur in
+     */
+    public List<SuggestionDTO> suggest(String query, JobSuggester.Type type, int limit) {
+        return jobSuggester.suggest(query, type, limit);
     }
 
     /**
@@ -201,30 +350,52 @@ public class JobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Job> jobs = jobRepository.findByRecruiter(recruiter, pageable);
-        return jobs.map(this::mapToJobDTO);
+        return jobRepository.findJobListingsByRecruiter(recruiter, pageable);
+    }
+
+    /**
+     * Get jobs by recruiter with keyset pagination (newest first)
+     */
+    public CursorPage<JobDTO> getJobsByRecruiterAfter(Long userId, String cursor, int size) {
+        Recruiter recruiter = recruiterRepository.findByUserUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
+
+        JobCursor position = JobCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<JobDTO> jobs = position == null
+                ? jobRepository.findByRecruiterNewestFirst(recruiter, limit)
+                : jobRepository.findByRecruiterAfter(recruiter, position.getCreatedAt(), position.getJobId(), limit);
+        return toCursorPage(jobs, size);
     }
 
     /**
      * Get recent jobs
+     *
+     * Served from the precomputed RecentJobsCache; larger requests (and
+     * requests before it is loaded) query the database.
      */
     public List<JobDTO> getRecentJobs(int limit) {
+        Optional<List<JobDTO>> recent = recentJobsCache.newest(limit);
+        if (recent.isPresent()) {
+            return recent.get();
+        }
         Pageable pageable = PageRequest.of(0, limit);
-        List<Job> jobs = jobRepository.findRecentJobs(pageable);
-        return jobs.stream()
-                .map(this::mapToJobDTO)
-                .collect(Collectors.toList());
+        return jobRepository.findRecentJobs(pageable);
     }
 
     /**
      * Get most viewed jobs
+     *
+     * Ranked by the in-memory PopularJobs tracker (optionally by recent views
+     * only); the database sort is used until the tracker is built.
      */
     public List<JobDTO> getMostViewedJobs(int limit) {
+        Optional<List<Long>> jobIds = popularJobs.top(limit);
+        if (jobIds.isPresent()) {
+            return loadJobsInOrder(jobIds.get());
+        }
         Pageable pageable = PageRequest.of(0, limit);
-        List<Job> jobs = jobRepository.findMostViewedJobs(pageable);
-        return jobs.stream()
-                .map(this::mapToJobDTO)
-                .collect(Collectors.toList());
+        return jobRepository.findMostViewedJobs(pageable);
     }
 
     /**
@@ -239,12 +410,107 @@ public class JobService {
         if (!job.getRecruiter().getUser().getUserId().equals(userId)) {
             throw new UnauthorizedException("You are not authorized to modify this job");
         }
+        JobDocument previous = JobDocument.from(job);
 
         job.setIsActive(!job.getIsActive());
         Job updatedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(previous, JobDocument.from(updatedJob)));
         return mapToJobDTO(updatedJob);
     }
 
+    /**
+     * Reject criteria the search would otherwise have to ignore
+     */
+    private void validateCriteria(JobSearchRequest request) {
+        validateRadius(request);
+        validateSalaryCurrency(request);
+    }
+
+    /**
+     * Salary criteria in a currency without a configured rate cannot be compared
+     */
+    private void validateSalaryCurrency(JobSearchRequest request) {
+        if ((request.getMinSalary() != null || request.getMaxSalary() != null)
+                && !salaryNormalizer.supports(request.getSalaryCurrency())) {
+            throw new BadRequestException("Unsupported salaryCurrency: " + request.getSalaryCurrency());
+        }
+    }
+
+    /**
+     * Radius criteria need a positive radius and a centre the gazetteer knows
+     */
+    private void validateRadius(JobSearchRequest request) {
+        if (request.getRadiusKm() == null) {
+            return;
+        }
+        if (request.getRadiusKm() <= 0 || request.getRadiusKm() > MAX_RADIUS_KM) {
+            throw new BadRequestException("radiusKm must be greater than 0 and at most " + MAX_RADIUS_KM);
+        }
+        if (gazetteer.center(request).isEmpty()) {
+            throw new BadRequestException(StringUtils.hasText(request.getNear())
+                    ? "Unknown location: " + request.getNear()
+                    : "Radius search requires near or latitude/longitude");
+        }
+    }
+
+    private Pageable searchPageable(JobSearchRequest request) {
+        if (!JobSearchIndex.supportsSort(request.getSortBy())) {
+            throw new BadRequestException("Unsupported sortBy: " + request.getSortBy());
+        }
+        // Relevance is ranked by the search index itself
+        if (JobSearchIndex.SORT_RELEVANCE.equals(request.getSortBy())) {
+            return PageRequest.of(request.getPage(), request.getSize(), Sort.by("createdAt").descending());
+        }
+        Sort sort = request.getSortDirection().equalsIgnoreCase("ASC")
+                ? Sort.by(request.getSortBy()).ascending()
+                : Sort.by(request.getSortBy()).descending();
+        return PageRequest.of(request.getPage(), request.getSize(), sort);
+    }
+
+    /**
+     * Keyset queries fetch one extra row to learn whether another page exists
+     */
+    private Pageable cursorLimit(int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Trim the extra row fetched by a keyset query and derive the next cursor
+     */
+    private CursorPage<JobDTO> toCursorPage(List<JobDTO> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<JobDTO> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            JobDTO last = content.get(content.size() - 1);
+            nextCursor = JobCursor.encode(last.getCreatedAt(), last.getJobId());
+        }
+        return CursorPage.<JobDTO>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Load job listings by ID and return them in the order of the given IDs
+     */
+    private List<JobDTO> loadJobsInOrder(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobDTO> jobsById = jobRepository.findJobListingsByIds(jobIds).stream()
+                .collect(Collectors.toMap(JobDTO::getJobId, Function.identity()));
+        return jobIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Map Job entity to JobDTO
      */
@@ -0,0 +1,145 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.DashboardStats;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.model.Role;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.repository.RecruiterRepository;
+import com.jobportal.repository.UserRepository;
+import com.jobportal.search.JobDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Platform-wide totals for the admin dashboard, kept as in-memory counters
+ *
+ * The service mutation paths report their changes (applied after commit, so
+ * rolled back work is never counted); job changes arrive as JobChangedEvents.
+ * The counters are loaded from the database on startup and reconciled on a
+ * fixed interval, which also corrects drift from changes made outside the
+ * application or racing with a reconciliation.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlatformStatistics {
+
+    private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final RecruiterRepository recruiterRepository;
+    private final ApplicationRepository applicationRepository;
+
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong totalJobSeekers = new AtomicLong();
+    private final AtomicLong totalRecruiters = new AtomicLong();
+    private final AtomicLong totalJobs = new AtomicLong();
+    private final AtomicLong activeJobs = new AtomicLong();
+    private final AtomicLong totalApplications = new AtomicLong();
+    private final AtomicLong pendingVerifications = new AtomicLong();
+
+    /**
+     * Reload all counters from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jobportal.stats.reconcile-interval:PT10M}",
+            fixedDelayString = "${jobportal.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        totalUsers.set(userRepository.count());
+        totalJobSeekers.set(userRepository.countByRole(Role.JOB_SEEKER));
+        totalRecruiters.set(userRepository.countByRole(Role.RECRUITER));
+        totalJobs.set(jobRepository.count());
+        activeJobs.set(jobRepository.countByIsActiveTrue());
+        totalApplications.set(applicationRepository.count());
+        pendingVerifications.set(recruiterRepository.countByIsVerifiedFalse());
+        log.debug("Platform statistics reconciled: {} users, {} jobs, {} applications",
+                totalUsers.get(), totalJobs.get(), totalApplications.get());
+    }
+
+    /**
+     * Current totals; no database access
+     */
+    public DashboardStats snapshot() {
+        return DashboardStats.builder()
+                .totalUsers(totalUsers.get())
+                .totalJobSeekers(totalJobSeekers.get())
+                .totalRecruiters(totalRecruiters.get())
+                .totalJobs(totalJobs.get())
+                .activeJobs(activeJobs.get())
+                .totalApplications(totalApplications.get())
+                .pendingVerifications(pendingVerifications.get())
+                .build();
+    }
+
+    /**
+     * Current number of active jobs
+     */
+    public long getActiveJobs() {
+        return activeJobs.get();
+    }
+
+    /**
+     * Record a registration; new recruiter profiles start unverified
+     */
+    public void userRegistered(Role role) {
+        afterCommit(() -> {
+            totalUsers.incrementAndGet();
+            if (role == Role.JOB_SEEKER) {
+                totalJobSeekers.incrementAndGet();
+            } else if (role == Role.RECRUITER) {
+                totalRecruiters.incrementAndGet();
+                pendingVerifications.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Record that a previously unverified recruiter was verified
+     */
+    public void recruiterVerified() {
+        afterCommit(pendingVerifications::decrementAndGet);
+    }
+
+    /**
+     * Record a change in the number of applications
+     */
+    public void applicationsChanged(long delta) {
+        afterCommit(() -> totalApplications.addAndGet(delta));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        JobDocument previous = event.getPrevious();
+        JobDocument current = event.getCurrent();
+        totalJobs.addAndGet((current != null ? 1 : 0) - (previous != null ? 1 : 0));
+        activeJobs.addAndGet(isActive(current) - isActive(previous));
+    }
+
+    private static int isActive(JobDocument document) {
+        return document != null && document.isActive() ? 1 : 0;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.JobDTO;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.search.JobDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The newest active job listings, precomputed for the home page
+ *
+ * Holds an immutable snapshot of up to jobportal.recent-jobs.capacity
+ * listings (newest first) behind a volatile reference: readers never lock
+ * or query. A committed job change that can affect the snapshot (the job is
+ * in it, or is active and at least as new as its oldest entry) marks it
+ * stale, and the next read replaces it with a freshly loaded copy, so a
+ * burst of changes (e.g. a bulk import) costs one reload; other changes are
+ * ignored.
+ *
+ * View and application counts in the snapshot are as of its last refresh.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Component
+public class RecentJobsCache {
+
+    private final JobRepository jobRepository;
+    private final int capacity;
+
+    private volatile List<JobDTO> snapshot;
+    private volatile boolean stale;
+
+    public RecentJobsCache(JobRepository jobRepository,
+            @Value("${jobportal.recent-jobs.capacity:50}") int capacity) {
+        this.jobRepository = jobRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Load the snapshot once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        stale = false;
+        snapshot = List.copyOf(jobRepository.findActiveJobsNewestFirst(PageRequest.of(0, capacity)));
+    }
+
+    /**
+     * Mark the snapshot stale if a committed job change affects it
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        List<JobDTO> current = snapshot;
+        if (current != null && !stale && affects(current, event)) {
+            stale = true;
+        }
+    }
+
+    /**
+     * The up to limit newest active jobs, or empty when the snapshot cannot
+     * answer (not loaded yet, or more jobs requested than it holds)
+     */
+    public Optional<List<JobDTO>> newest(int limit) {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    refresh();
+                }
+            }
+        }
+        List<JobDTO> current = snapshot;
+        if (current == null || limit > capacity) {
+            return Optional.empty();
+        }
+        return Optional.of(current.subList(0, Math.min(limit, current.size())));
+    }
+
+    private boolean affects(List<JobDTO> current, JobChangedEvent event) {
+        Long jobId = event.getJobId();
+        if (current.stream().anyMatch(job -> job.getJobId().equals(jobId))) {
+            return true;
+        }
+        JobDocument document = event.getCurrent();
+        if (document == null || !document.isActive()) {
+            return false;
+        }
+        if (current.size() < capacity) {
+            return true;
+        }
+        JobDTO oldest = current.get(current.size() - 1);
+        return oldest.getCreatedAt() == null || document.getCreatedAt() == null
+                || !document.getCreatedAt().isBefore(oldest.getCreatedAt());
+    }
+}
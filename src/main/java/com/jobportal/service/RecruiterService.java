@@ -1,13 +1,19 @@
 package com.jobportal.service;
 
+import com.jobportal.dto.JobDTO;
 import com.jobportal.dto.RecruiterDTO;
 import com.jobportal.dto.RecruiterUpdateRequest;
+import com.jobportal.event.JobChangedEvent;
 import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.model.Recruiter;
 import com.jobportal.model.User;
+import com.jobportal.repository.JobRepository;
 import com.jobportal.repository.RecruiterRepository;
 import com.jobportal.repository.UserRepository;
+import com.jobportal.search.JobDocument;
+import com.jobportal.search.NameSearchIndexes;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +21,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,8 +38,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecruiterService {
 
+    // Typo-tolerant searches return the best matches only
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final RecruiterRepository recruiterRepository;
     private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NameSearchIndexes nameSearchIndexes;
+    private final PlatformStatistics platformStatistics;
 
     /**
      * Get recruiter by ID
@@ -66,6 +83,7 @@ public class RecruiterService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter profile not found"));
 
         User user = recruiter.getUser();
+        String previousCompanyName = recruiter.getCompanyName();
 
         // Update recruiter fields
         if (request.getCompanyName() != null) {
@@ -103,6 +121,19 @@ public class RecruiterService {
 
         userRepository.save(user);
         Recruiter updatedRecruiter = recruiterRepository.save(recruiter);
+        if (request.getName() != null) {
+            nameSearchIndexes.userNameChanged(user.getUserId(), user.getName());
+        }
+
+        // Job snapshots carry the company name; refresh them so search and suggestions follow a rename
+        if (!Objects.equals(previousCompanyName, updatedRecruiter.getCompanyName())) {
+            nameSearchIndexes.companyNameChanged(updatedRecruiter.getRecruiterId(), updatedRecruiter.getCompanyName());
+            for (JobDTO job : jobRepository.findAllJobListingsByRecruiter(updatedRecruiter)) {
+                JobDocument current = JobDocument.from(job, updatedRecruiter.getHeadquarters());
+                JobDocument previous = current.toBuilder().companyName(previousCompanyName).build();
+                eventPublisher.publishEvent(new JobChangedEvent(previous, current));
+            }
+        }
         return mapToRecruiterDTO(updatedRecruiter);
     }
 
@@ -126,8 +157,23 @@ public class RecruiterService {
 
     /**
      * Search recruiters by company name
+     *
+     * Typo-tolerant through the company name index (exact and substring
+     * matches first), returning at most MAX_SEARCH_RESULTS (50) best matches;
+     * plain substring search (all matches) for very short queries, names too
+     * common for the index scan budget, or before the index is built.
      */
     public List<RecruiterDTO> searchByCompanyName(String companyName) {
+        Optional<List<Long>> ids = nameSearchIndexes.getCompanyNames().search(companyName, MAX_SEARCH_RESULTS);
+        if (ids.isPresent()) {
+            Map<Long, Recruiter> recruitersById = recruiterRepository.findAllById(ids.get()).stream()
+                    .collect(Collectors.toMap(Recruiter::getRecruiterId, Function.identity()));
+            return ids.get().stream()
+                    .map(recruitersById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::mapToRecruiterDTO)
+                    .collect(Collectors.toList());
+        }
         List<Recruiter> recruiters = recruiterRepository.searchByCompanyName(companyName);
         return recruiters.stream()
                 .map(this::mapToRecruiterDTO)
@@ -142,6 +188,9 @@ public class RecruiterService {
         Recruiter recruiter = recruiterRepository.findById(recruiterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found"));
 
+        if (!Boolean.TRUE.equals(recruiter.getIsVerified())) {
+            platformStatistics.recruiterVerified();
+        }
         recruiter.setIsVerified(true);
         Recruiter updatedRecruiter = recruiterRepository.save(recruiter);
         return mapToRecruiterDTO(updatedRecruiter);
@@ -7,6 +7,8 @@ import com.jobportal.exception.ResourceNotFoundException;
 import com.jobportal.model.Role;
 import com.jobportal.model.User;
 import com.jobportal.repository.UserRepository;
+import com.jobportal.search.NameSearchIndexes;
+import com.jobportal.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +18,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -29,8 +35,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    // Typo-tolerant searches return the best matches only
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final NameSearchIndexes nameSearchIndexes;
+    private final PrincipalCache principalCache;
 
     /**
      * Get user by ID
@@ -83,6 +94,9 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        if (request.getName() != null) {
+            nameSearchIndexes.userNameChanged(updatedUser.getUserId(), updatedUser.getName());
+        }
         return mapToUserDTO(updatedUser);
     }
 
@@ -100,6 +114,7 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     /**
@@ -121,9 +136,24 @@ public class UserService {
     }
 
     /**
-     * Search users by name
+     * Search active users by name
+     *
+     * Typo-tolerant through the user name index (exact and substring matches
+     * first), returning at most MAX_SEARCH_RESULTS (50) best matches; plain
+     * substring search (all matches) for very short queries, names too common
+     * for the index scan budget, or before the index is built.
      */
     public List<UserDTO> searchUsers(String name) {
+        Optional<List<Long>> ids = nameSearchIndexes.getUserNames().search(name, MAX_SEARCH_RESULTS);
+        if (ids.isPresent()) {
+            Map<Long, User> usersById = userRepository.findAllById(ids.get()).stream()
+                    .collect(Collectors.toMap(User::getUserId, Function.identity()));
+            return ids.get().stream()
+                    .map(usersById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::mapToUserDTO)
+                    .collect(Collectors.toList());
+        }
         List<User> users = userRepository.searchByName(name);
         return users.stream()
                 .map(this::mapToUserDTO)
@@ -140,6 +170,12 @@ public class UserService {
 
         user.setIsActive(!user.getIsActive());
         User updatedUser = userRepository.save(user);
+        principalCache.evict(userId);
+        if (updatedUser.getIsActive()) {
+            nameSearchIndexes.userNameChanged(userId, updatedUser.getName());
+        } else {
+            nameSearchIndexes.userRemoved(userId);
+        }
         return mapToUserDTO(updatedUser);
     }
 
@@ -154,6 +190,8 @@ public class UserService {
         // Soft delete - deactivate instead of actual delete
         user.setIsActive(false);
         userRepository.save(user);
+        principalCache.evict(userId);
+        nameSearchIndexes.userRemoved(userId);
     }
 
     /**
@@ -0,0 +1,68 @@
+package com.jobportal.service;
+
+import com.jobportal.search.JobSearchIndex;
+import com.jobportal.search.PopularJobs;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write-behind buffer for job view counts
+ *
+ * Job detail views are written every jobportal.views.flush-interval. At most
+ * one interval of views is lost if the process dies; a normal shutdown
+ * flushes the buffer. Written views are passed on to the PopularJobs
+ * ranking and the search index as per-job totals, so ranking and sorting
+ * cost nothing per view.
+ *
+ * Part of the Business Logic Layer (Tier 2)
+ */
+@Component
+public class ViewCountBuffer extends JobCounterBuffer {
+
+    private final PopularJobs popularJobs;
+    private final JobSearchIndex jobSearchIndex;
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            PopularJobs popularJobs,
+            JobSearchIndex jobSearchIndex,
+            @Value("${jobportal.views.batch-size:500}") int batchSize) {
+        super(jdbcTemplate, transactionTemplate, meterRegistry, "views_count", "jobportal.views", batchSize);
+        this.popularJobs = popularJobs;
+        this.jobSearchIndex = jobSearchIndex;
+    }
+
+    /**
+     * Record one view of a job
+     */
+    public void record(Long jobId) {
+        add(jobId, 1);
+    }
+
+    @Override
+    protected void written(List<Object[]> rows) {
+        Map<Long, Long> views = new HashMap<>();
+        for (Object[] row : rows) {
+            views.put((Long) row[1], (Long) row[0]);
+        }
+        popularJobs.recordViews(views);
+        jobSearchIndex.recordViews(views);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${jobportal.views.flush-interval:PT5S}")
+    @PreDestroy
+    public void flush() {
+        super.flush();
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobportal.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180)
+ *
+ * Reads one record at a time: comma-separated fields, optionally enclosed in
+ * double quotes, with "" as an escaped quote and line breaks allowed inside
+ * quoted fields. Only the current record is held in memory.
+ */
+public final class CsvReader {
+
+    private final Reader in;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    public CsvReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    /**
+     * Read the next record, or null at the end of the input
+     */
+    public List<String> readRecord() throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        while (true) {
+            if (c == -1) {
+                fields.add(field.toString());
+                return fields;
+            }
+            if (inQuotes) {
+                if (c == '"') {
+                    int next = in.read();
+                    if (next != '"') {
+                        inQuotes = false;
+                        c = next;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    /**
+     * Line on which the record last returned by readRecord() starts (1-based)
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobportal.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV writer (RFC 4180)
+ *
+ * Writes one record at a time; fields containing a comma, double quote or
+ * line break are enclosed in double quotes with quotes doubled, null is
+ * written as an empty field. Records end with CRLF.
+ *
+ * Text values starting with =, +, -, @, tab or carriage return would be run
+ * as formulas by spreadsheet applications; they are prefixed with a single
+ * quote and quoted. Numbers and other non-text values are written as is.
+ */
+public final class CsvWriter {
+
+    // Leading characters that make a spreadsheet cell a formula
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Write one record; values are converted with toString()
+     */
+    public void writeRecord(List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                writeField(field.toString(), field instanceof CharSequence);
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private void writeField(String value, boolean text) throws IOException {
+        boolean quote = false;
+        if (text && !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+            quote = true;
+        }
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
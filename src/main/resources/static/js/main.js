@@ -146,6 +146,45 @@ const Utils = {
     }
 };
 
+// Search box suggestions (GET /api/jobs/suggest) rendered into a <datalist>
+const Suggest = {
+    attach(inputId, type) {
+        const input = document.getElementById(inputId);
+        if (!input) return;
+
+        const list = document.createElement('datalist');
+        list.id = `${inputId}Suggestions`;
+        input.setAttribute('list', list.id);
+        input.setAttribute('autocomplete', 'off');
+        input.after(list);
+
+        let timer;
+        input.addEventListener('input', () => {
+            clearTimeout(timer);
+            const query = input.value.trim();
+            if (query.length < 1) {
+                list.innerHTML = '';
+                return;
+            }
+            timer = setTimeout(async () => {
+                const params = new URLSearchParams({ q: query, limit: 8 });
+                if (type) params.set('type', type);
+                try {
+                    const result = await API.get(`/jobs/suggest?${params}`);
+                    list.innerHTML = '';
+                    (result.data || []).forEach(suggestion => {
+                        const option = document.createElement('option');
+                        option.value = suggestion.text;
+                        list.appendChild(option);
+                    });
+                } catch (e) {
+                    list.innerHTML = '';
+                }
+            }, 150);
+        });
+    }
+};
+
 // Update navigation based on auth state
 function updateNavigation() {
     const authNav = document.getElementById('navAuth') || document.getElementById('authButtons');
@@ -176,9 +215,12 @@ function updateNavigation() {
 // Initialize on page load
 document.addEventListener('DOMContentLoaded', function() {
     updateNavigation();
+    Suggest.attach('keyword');
+    Suggest.attach('location', 'LOCATION');
 });
 
 // Export for global use
 window.Auth = Auth;
 window.API = API;
 window.Utils = Utils;
+window.Suggest = Suggest;
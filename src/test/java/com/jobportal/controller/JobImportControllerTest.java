@@ -0,0 +1,70 @@
+package com.jobportal.controller;
+
+import com.jobportal.model.Role;
+import com.jobportal.security.UserPrincipal;
+import com.jobportal.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/jobs/import picks the format from the Content-Type and reports rejected rows by line
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class JobImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void importsCsvBody() throws Exception {
+        String csv = "title,description,skills,location\n"
+                + "Backend Engineer,APIs,Java,Pune\n"
+                + "QA Engineer,,Selenium,Delhi\n"
+                + "Data Engineer,Pipelines,Python,Mumbai\n";
+
+        mockMvc.perform(post("/api/jobs/import").with(recruiter())
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(3))
+                .andExpect(jsonPath("$.data.errors[0].message").value("Job description is required"));
+    }
+
+    @Test
+    void importsNdjsonBody() throws Exception {
+        String ndjson = "{\"title\":\"Backend Engineer\",\"description\":\"APIs\",\"skills\":\"Java\",\"location\":\"Pune\"}\n"
+                + "not json\n"
+                + "{\"title\":\"QA Engineer\",\"description\":\"Tests\",\"skills\":\"Selenium\",\"location\":\"Delhi\"}\n";
+
+        mockMvc.perform(post("/api/jobs/import").with(recruiter())
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(2));
+    }
+
+    private RequestPostProcessor recruiter() {
+        UserPrincipal principal = new UserPrincipal(testData.recruiter(), "recruiter@test.example", Role.RECRUITER, true);
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyIndexTest {
+
+    @Test
+    void ranksExactThenSubstringThenTypoMatches() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.replaceAll(Map.of(1L, "Data Engineer", 2L, "Senior Data Engineer", 3L, "Backend Developer"));
+
+        assertThat(index.search("data engineer", 10)).contains(List.of(1L, 2L));
+        assertThat(index.search("devloper", 10)).contains(List.of(3L));
+    }
+
+    @Test
+    void leavesTooCommonNamesToTheSubstringSearch() {
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 1; id <= 25_000; id++) {
+            names.put(id, "John Smith");
+        }
+        names.put(30_000L, "Jane Doe");
+        FuzzyIndex index = new FuzzyIndex();
+        index.replaceAll(names);
+
+        // Every trigram of the query is in more postings than the scan budget
+        assertThat(index.search("john smith", 50)).isEmpty();
+        assertThat(index.search("jane doe", 50)).contains(List.of(30_000L));
+    }
+
+    @Test
+    void alwaysFindsSubstringMatchesAmongManyTypoCandidates() {
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 1; id <= 300; id++) {
+            names.put(id, "Elon Op");
+        }
+        names.put(1000L, "Backend Developer");
+        FuzzyIndex index = new FuzzyIndex();
+        index.replaceAll(names);
+
+        // "Elon Op" shares more trigrams with "elop" and is one typo away, but only 1000 contains it
+        assertThat(index.search("elop", 50)).hasValueSatisfying(ids -> {
+            assertThat(ids).hasSize(50);
+            assertThat(ids.get(0)).isEqualTo(1000L);
+        });
+    }
+
+    @Test
+    void answersNothingBeforeTheIndexIsBuilt() {
+        assertThat(new FuzzyIndex().search("anything", 10)).isEqualTo(Optional.empty());
+    }
+}
@@ -0,0 +1,124 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobSearchRequest;
+import com.jobportal.exception.ServiceUnavailableException;
+import com.jobportal.model.Job;
+import com.jobportal.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchIndexTest {
+
+    @Test
+    void sortsSalariesInTheBaseCurrency() {
+        JobSearchIndex index = build(
+                job(1L, "Backend Developer", 5000.0, "INR", 0),
+                job(2L, "Frontend Developer", 100.0, "USD", 0),
+                job(3L, "Data Developer", 9000.0, "INR", 0));
+
+        // 100 USD is 8000 INR: it ranks between the two INR salaries and passes the same filter
+        assertThat(jobIds(index, request("minSalary", "DESC"))).containsExactly(3L, 2L, 1L);
+        JobSearchRequest filtered = request("minSalary", "ASC");
+        filtered.setMinSalary(6000.0);
+        assertThat(jobIds(index, filtered)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void sortsByCountersKeptCurrentFromTheBuffers() {
+        JobSearchIndex index = build(
+                job(1L, "Backend Developer", null, null, 10),
+                job(2L, "Frontend Developer", null, null, 3));
+        assertThat(jobIds(index, request("viewsCount", "DESC"))).containsExactly(1L, 2L);
+
+        index.recordViews(Map.of(2L, 20L));
+        assertThat(jobIds(index, request("viewsCount", "DESC"))).containsExactly(2L, 1L);
+
+        // A change to the job keeps the counters the index has been tracking
+        Job renamed = job(2L, "Frontend Engineer", null, null, 3);
+        index.index(JobDocument.from(renamed));
+        assertThat(jobIds(index, request("viewsCount", "DESC"))).containsExactly(2L, 1L);
+
+        index.recordApplications(Map.of(1L, 2L));
+        index.correctApplications(2L, 1L);
+        assertThat(jobIds(index, request("applicationsCount", "DESC"))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void keepsTextStatisticsWhenReindexedFromAListing() {
+        Job described = job(1L, "Java Developer", null, null, 0);
+        described.setDescription("Java services, Java tooling and more Java");
+        Job plain = job(2L, "Java Developer", null, null, 0);
+        plain.setDescription("Backend services");
+        JobSearchIndex index = build(described, plain);
+        JobSearchRequest request = request(JobSearchIndex.SORT_RELEVANCE, "DESC");
+        request.setKeyword("java");
+        assertThat(jobIds(index, request)).containsExactly(1L, 2L);
+
+        // A company rename republishes listing snapshots, which carry no description
+        index.index(JobDocument.from(described).toBuilder().description(null).companyName("Renamed").build());
+
+        assertThat(jobIds(index, request)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void supportsEveryListingSortAndRejectsOthers() {
+        assertThat(List.of("createdAt", "title", "location", "jobType", "minSalary", "maxSalary", "vacancies",
+                "applicationDeadline", "viewsCount", "applicationsCount", "relevance"))
+                .allMatch(JobSearchIndex::supportsSort);
+        assertThat(JobSearchIndex.supportsSort("description")).isFalse();
+        assertThat(JobSearchIndex.supportsSort(null)).isFalse();
+    }
+
+    @Test
+    void answersSearchesBeforeTheFirstBuildWithServiceUnavailable() {
+        JobSearchIndex index = new JobSearchIndex(mock(JobRepository.class), new SalaryNormalizer("INR", ""),
+                new Gazetteer(), Duration.ofMillis(10));
+
+        assertThatThrownBy(() -> index.search(request("createdAt", "DESC"), PageRequest.of(0, 10)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(index.count(new JobSearchRequest())).isEmpty();
+    }
+
+    private static JobSearchIndex build(Job... jobs) {
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findActiveJobsWithRecruiter()).thenReturn(List.of(jobs));
+        JobSearchIndex index = new JobSearchIndex(jobRepository, new SalaryNormalizer("INR", "USD:80"),
+                new Gazetteer(), Duration.ZERO);
+        index.rebuild();
+        return index;
+    }
+
+    private static Job job(Long jobId, String title, Double minSalary, String currency, int viewsCount) {
+        Job job = new Job();
+        job.setJobId(jobId);
+        job.setTitle(title);
+        job.setMinSalary(minSalary);
+        job.setSalaryCurrency(currency);
+        job.setViewsCount(viewsCount);
+        job.setApplicationsCount(0);
+        job.setIsActive(true);
+        job.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(jobId));
+        return job;
+    }
+
+    private static JobSearchRequest request(String sortBy, String sortDirection) {
+        JobSearchRequest request = new JobSearchRequest();
+        request.setSortBy(sortBy);
+        request.setSortDirection(sortDirection);
+        return request;
+    }
+
+    private static List<Long> jobIds(JobSearchIndex index, JobSearchRequest request) {
+        return index.search(request, PageRequest.of(0, 10)).getJobIds();
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.SuggestionDTO;
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSuggesterTest {
+
+    @Test
+    void memoizedPrefixesFollowJobChanges() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findActiveJobsWithRecruiter()).thenReturn(List.of());
+        JobSuggester suggester = new JobSuggester(jobRepository, 100);
+        suggester.rebuild();
+        suggester.onJobChanged(new JobChangedEvent(null, job(1L)));
+
+        assertThat(suggester.suggest("ja", JobSuggester.Type.TITLE, 5))
+                .extracting(SuggestionDTO::getText, SuggestionDTO::getCount)
+                .containsExactly(tuple("Java Developer", 1L));
+
+        suggester.onJobChanged(new JobChangedEvent(null, job(2L)));
+
+        assertThat(suggester.suggest("ja", JobSuggester.Type.TITLE, 5))
+                .extracting(SuggestionDTO::getCount)
+                .containsExactly(2L);
+    }
+
+    private static JobDocument job(Long jobId) {
+        return JobDocument.builder()
+                .jobId(jobId)
+                .title("Java Developer")
+                .active(true)
+                .build();
+    }
+}
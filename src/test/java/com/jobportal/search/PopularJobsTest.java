@@ -0,0 +1,102 @@
+package com.jobportal.search;
+
+import com.jobportal.event.JobChangedEvent;
+import com.jobportal.repository.JobRepository;
+import com.jobportal.service.ViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PopularJobsTest {
+
+    @Test
+    void ranksActiveJobsByPersistedAndRecordedViews() {
+        PopularJobs popularJobs = build(List.of(
+                new Object[] { 1L, 10, true },
+                new Object[] { 2L, 5, true },
+                new Object[] { 3L, 50, false }));
+
+        assertThat(popularJobs.top(10)).contains(List.of(1L, 2L));
+
+        popularJobs.recordViews(Map.of(2L, 6L, 3L, 100L));
+
+        assertThat(popularJobs.top(10)).contains(List.of(2L, 1L));
+        assertThat(popularJobs.top(1)).contains(List.of(2L));
+    }
+
+    @Test
+    void ranksJobsThatBecomeActiveWithTheirViews() {
+        PopularJobs popularJobs = build(List.of(new Object[] { 1L, 10, true }, new Object[] { 2L, 0, false }));
+        popularJobs.recordViews(Map.of(2L, 20L));
+
+        popularJobs.onJobChanged(new JobChangedEvent(null, JobDocument.builder().jobId(2L).active(true).build()));
+
+        assertThat(popularJobs.top(10)).contains(List.of(2L, 1L));
+    }
+
+    @Test
+    void keepsViewsRecordedWhileTheCountsAreLoaded() throws InterruptedException {
+        JobRepository jobRepository = mock(JobRepository.class);
+        PopularJobs popularJobs = new PopularJobs(jobRepository, null);
+        Thread flush = new Thread(() -> popularJobs.recordViews(Map.of(2L, 20L)));
+        when(jobRepository.findViewCounts()).thenAnswer(invocation -> {
+            // A view count flush lands while the persisted counts are being read
+            flush.start();
+            flush.join(200);
+            return List.of(new Object[] { 1L, 10, true }, new Object[] { 2L, 0, true });
+        });
+
+        popularJobs.rebuild();
+        flush.join();
+
+        assertThat(popularJobs.top(10)).contains(List.of(2L, 1L));
+    }
+
+    @Test
+    void viewsReachTheRankingWhenTheViewBufferIsFlushed() {
+        PopularJobs popularJobs = build(List.of(new Object[] { 1L, 3, true }, new Object[] { 2L, 0, true }));
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID().toString())
+                .build();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            jdbcTemplate.execute("CREATE TABLE jobs (job_id BIGINT PRIMARY KEY, views_count BIGINT NOT NULL)");
+            jdbcTemplate.update("INSERT INTO jobs (job_id, views_count) VALUES (1, 3), (2, 0)");
+            ViewCountBuffer views = new ViewCountBuffer(jdbcTemplate,
+                    new TransactionTemplate(new DataSourceTransactionManager(database)),
+                    new SimpleMeterRegistry(), popularJobs, mock(JobSearchIndex.class), 500);
+
+            for (int i = 0; i < 5; i++) {
+                views.record(2L);
+            }
+            assertThat(popularJobs.top(10)).contains(List.of(1L, 2L));
+
+            views.flush();
+            assertThat(popularJobs.top(10)).contains(List.of(2L, 1L));
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    private static PopularJobs build(List<Object[]> viewCounts) {
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findViewCounts()).thenReturn(viewCounts);
+        PopularJobs popularJobs = new PopularJobs(jobRepository, null);
+        popularJobs.rebuild();
+        return popularJobs;
+    }
+}
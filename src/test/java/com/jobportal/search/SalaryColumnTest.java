@@ -0,0 +1,57 @@
+package com.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalaryColumnTest {
+
+    @Test
+    void loadSortsOnceAndSkipsMissingSalaries() {
+        SalaryColumn column = new SalaryColumn();
+        column.load(new int[] { 0, 1, 2, 3 }, new double[] { 300, Double.NaN, 100, 200 });
+
+        assertThat(column.atLeast(150)).isEqualTo(bits(0, 3));
+        assertThat(column.atMost(200)).isEqualTo(bits(2, 3));
+        assertThat(column.atLeast(0)).isEqualTo(bits(0, 2, 3));
+    }
+
+    @Test
+    void incrementalChangesKeepOrderAfterLoad() {
+        SalaryColumn column = new SalaryColumn();
+        column.load(new int[] { 0, 1 }, new double[] { 500, 100 });
+
+        column.add(2, 300);
+        column.remove(0, 500);
+
+        assertThat(column.atLeast(200)).isEqualTo(bits(2));
+        assertThat(column.atMost(300)).isEqualTo(bits(1, 2));
+    }
+
+    @Test
+    void loadGrowsBeyondInitialCapacity() {
+        int count = 1000;
+        int[] docs = new int[count];
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            docs[i] = i;
+            values[i] = count - i;
+        }
+        SalaryColumn column = new SalaryColumn();
+        column.load(docs, values);
+        column.add(count, 0.5);
+
+        assertThat(column.atMost(1)).isEqualTo(bits(count - 1, count));
+        assertThat(column.atLeast(1).cardinality()).isEqualTo(count);
+    }
+
+    private static BitSet bits(int... docs) {
+        BitSet bits = new BitSet();
+        for (int doc : docs) {
+            bits.set(doc);
+        }
+        return bits;
+    }
+}
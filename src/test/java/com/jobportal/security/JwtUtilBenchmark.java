@@ -0,0 +1,62 @@
+package com.jobportal.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.function.Function;
+
+/**
+ * Micro-benchmark of token verification (not part of the test suite)
+ *
+ * Compares building the key and parser for every token (what JwtUtil did
+ * before), a shared parser, and parseClaims answering a repeated token from
+ * the verified-claims cache. Run after mvn test-compile with the test
+ * classpath, e.g.
+ *
+ *   java -cp target/classes:target/test-classes:&lt;dependencies&gt; com.jobportal.security.JwtUtilBenchmark
+ */
+public final class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha512Signing0123456789abcdef";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static volatile Object sink;
+
+    private JwtUtilBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxEntries", 10_000);
+        jwtUtil.init();
+        String token = jwtUtil.generateToken("seeker@bench.example", "JOB_SEEKER", 1L);
+
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtParser sharedParser = Jwts.parser().verifyWith(key).build();
+
+        run("parser built per token", token,
+                t -> Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                        .parseSignedClaims(t).getPayload());
+        run("shared parser", token, t -> sharedParser.parseSignedClaims(t).getPayload());
+        run("parseClaims (cached)", token, t -> jwtUtil.parseClaims(t).orElseThrow());
+    }
+
+    private static void run(String name, String token, Function<String, Claims> verify) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = verify.apply(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = verify.apply(token);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-24s %8.0f ns/op%n", name, (double) elapsed / ITERATIONS);
+    }
+}
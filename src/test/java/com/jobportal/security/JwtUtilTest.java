@@ -0,0 +1,70 @@
+package com.jobportal.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void createJwtUtil() {
+        jwtUtil = jwtUtil(86_400_000L);
+    }
+
+    @Test
+    void parsesGeneratedTokenAndServesRepeatsFromTheCache() {
+        String token = jwtUtil.generateToken("recruiter@test.example", "RECRUITER", 7L);
+
+        Optional<Claims> first = jwtUtil.parseClaims(token);
+        assertThat(first).hasValueSatisfying(claims -> {
+            assertThat(claims.getSubject()).isEqualTo("recruiter@test.example");
+            assertThat(claims.get("role", String.class)).isEqualTo("RECRUITER");
+            assertThat(claims.get(JwtUtil.USER_ID_CLAIM, Long.class)).isEqualTo(7L);
+        });
+        // A repeated token is answered from the cache, not parsed again
+        assertThat(jwtUtil.parseClaims(token).get()).isSameAs(first.get());
+        assertThat(jwtUtil.getEmailFromToken(token)).isEqualTo("recruiter@test.example");
+        assertThat(jwtUtil.getRoleFromToken(token)).isEqualTo("RECRUITER");
+    }
+
+    @Test
+    void rejectsTamperedGarbageAndEmptyTokens() {
+        String token = jwtUtil.generateToken("seeker@test.example", "JOB_SEEKER", 8L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.parseClaims(tampered)).isEmpty();
+        assertThat(jwtUtil.parseClaims("not.a.token")).isEmpty();
+        assertThat(jwtUtil.parseClaims("")).isEmpty();
+        assertThat(jwtUtil.validateToken(null)).isFalse();
+        assertThat(jwtUtil.isTokenExpired(tampered)).isTrue();
+        assertThat(jwtUtil.isTokenExpired(token)).isFalse();
+        assertThatThrownBy(() -> jwtUtil.getEmailFromToken(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        String expired = jwtUtil(-1_000L).generateToken("seeker@test.example", "JOB_SEEKER", 8L);
+
+        assertThat(jwtUtil.parseClaims(expired)).isEmpty();
+        assertThat(jwtUtil.isTokenExpired(expired)).isTrue();
+    }
+
+    private static JwtUtil jwtUtil(long expiration) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret",
+                "testSecretKeyForUnitTestsOnlyThatIsLongEnoughForHmacSha512Signing0123456789");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxEntries", 100);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
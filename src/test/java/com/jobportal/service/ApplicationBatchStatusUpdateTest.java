@@ -0,0 +1,95 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.ApplicationBatchStatusUpdateRequest;
+import com.jobportal.dto.ApplicationBatchStatusUpdateResult;
+import com.jobportal.model.Application;
+import com.jobportal.model.ApplicationStatus;
+import com.jobportal.repository.ApplicationRepository;
+import com.jobportal.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * A recruiter's batch status update only changes applications to their own jobs
+ */
+@SpringBootTest
+@Import(TestData.class)
+class ApplicationBatchStatusUpdateTest {
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void updatesOwnApplicationsAndReportsForeignAndMissingOnes() {
+        Long recruiterUserId = testData.recruiter();
+        Long otherRecruiterUserId = testData.recruiter();
+        Long ownJobId = testData.job(recruiterUserId, "Backend Engineer");
+        Long foreignJobId = testData.job(otherRecruiterUserId, "Data Engineer");
+        Long seekerUserId = testData.seeker();
+        Long own = testData.apply(seekerUserId, ownJobId);
+        Long foreign = testData.apply(seekerUserId, foreignJobId);
+        Long otherOwn = testData.apply(testData.seeker(), ownJobId);
+        Long missing = Long.MAX_VALUE;
+
+        ApplicationBatchStatusUpdateRequest request = new ApplicationBatchStatusUpdateRequest(
+                List.of(own, foreign, missing, otherOwn, own), "shortlisted", "Strong profile", null);
+        ApplicationBatchStatusUpdateResult result = applicationService.updateApplicationStatuses(recruiterUserId,
+                request);
+
+        assertThat(result.getStatus()).isEqualTo("SHORTLISTED");
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getForbidden()).isEqualTo(1);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(result.getResults())
+                .extracting(ApplicationBatchStatusUpdateResult.Item::getApplicationId,
+                        ApplicationBatchStatusUpdateResult.Item::getOutcome)
+                .containsExactly(
+                        tuple(own, ApplicationBatchStatusUpdateResult.Outcome.UPDATED),
+                        tuple(foreign, ApplicationBatchStatusUpdateResult.Outcome.FORBIDDEN),
+                        tuple(missing, ApplicationBatchStatusUpdateResult.Outcome.NOT_FOUND),
+                        tuple(otherOwn, ApplicationBatchStatusUpdateResult.Outcome.UPDATED));
+
+        assertThat(application(own).getStatus()).isEqualTo(ApplicationStatus.SHORTLISTED);
+        assertThat(application(own).getRecruiterNotes()).isEqualTo("Strong profile");
+        assertThat(application(own).getReviewedDate()).isNotNull();
+        assertThat(application(otherOwn).getStatus()).isEqualTo(ApplicationStatus.SHORTLISTED);
+
+        Application untouched = application(foreign);
+        assertThat(untouched.getStatus()).isEqualTo(ApplicationStatus.APPLIED);
+        assertThat(untouched.getRecruiterNotes()).isNull();
+        assertThat(untouched.getReviewedDate()).isNull();
+    }
+
+    @Test
+    void keepsExistingNotesWhenNoneAreGiven() {
+        Long recruiterUserId = testData.recruiter();
+        Long applicationId = testData.apply(testData.seeker(), testData.job(recruiterUserId, "SRE"));
+        applicationService.updateApplicationStatuses(recruiterUserId, new ApplicationBatchStatusUpdateRequest(
+                List.of(applicationId), "UNDER_REVIEW", "Call back", null));
+
+        applicationService.updateApplicationStatuses(recruiterUserId, new ApplicationBatchStatusUpdateRequest(
+                List.of(applicationId), "INTERVIEW_SCHEDULED", null, "2030-05-01T10:00"));
+
+        Application application = application(applicationId);
+        assertThat(application.getStatus()).isEqualTo(ApplicationStatus.INTERVIEW_SCHEDULED);
+        assertThat(application.getRecruiterNotes()).isEqualTo("Call back");
+        assertThat(application.getInterviewDate()).hasToString("2030-05-01T10:00");
+    }
+
+    private Application application(Long applicationId) {
+        return applicationRepository.findById(applicationId).orElseThrow();
+    }
+}
@@ -0,0 +1,95 @@
+package com.jobportal.service;
+
+import com.jobportal.search.JobSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ApplicationCountBufferTest {
+
+    private static final int JOBS = 25;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationCountBuffer buffer;
+
+    @BeforeEach
+    void createJobs() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID().toString())
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE jobs (job_id BIGINT PRIMARY KEY, applications_count INT)");
+        jdbcTemplate.execute("CREATE TABLE applications (application_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "job_id BIGINT NOT NULL)");
+        for (long jobId = 1; jobId <= JOBS; jobId++) {
+            jdbcTemplate.update("INSERT INTO jobs (job_id, applications_count) VALUES (?, 0)", jobId);
+        }
+        // Reconcile in batches smaller than the number of jobs
+        buffer = new ApplicationCountBuffer(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(database)),
+                new SimpleMeterRegistry(), mock(JobSearchIndex.class), 500, 10);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        database.shutdown();
+    }
+
+    @Test
+    void correctsDriftedJobsAcrossBatches() {
+        insertApplications(3L, 2);
+        insertApplications(17L, 1);
+        setCount(17L, 9);
+        setCount(25L, null);
+
+        buffer.reconcile();
+
+        assertThat(count(3L)).isEqualTo(2);
+        assertThat(count(17L)).isEqualTo(1);
+        assertThat(count(25L)).isZero();
+        assertThat(count(1L)).isZero();
+    }
+
+    @Test
+    void leavesJobsWithBufferedDeltasToTheFlush() {
+        // Committed application whose increment is still buffered
+        insertApplications(5L, 1);
+        buffer.applied(5L);
+
+        buffer.reconcile();
+        assertThat(count(5L)).isZero();
+
+        buffer.flush();
+        buffer.reconcile();
+        assertThat(count(5L)).isEqualTo(1);
+    }
+
+    private void insertApplications(Long jobId, int applications) {
+        for (int i = 0; i < applications; i++) {
+            jdbcTemplate.update("INSERT INTO applications (job_id) VALUES (?)", jobId);
+        }
+    }
+
+    private void setCount(Long jobId, Integer count) {
+        jdbcTemplate.update("UPDATE jobs SET applications_count = ? WHERE job_id = ?", count, jobId);
+    }
+
+    private Integer count(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT applications_count FROM jobs WHERE job_id = ?",
+                Integer.class, jobId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.ApplicationDTO;
+import com.jobportal.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Application listings fetch applicant, job and company with the page:
+ * the number of statements must not grow with the page size (no 1+N loads)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestData.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplicationListingQueryCountTest {
+
+    private static final int APPLICATIONS = 12;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long recruiterUserId;
+    private Long seekerUserId;
+
+    @BeforeAll
+    void createApplications() {
+        recruiterUserId = testData.recruiter();
+        Long[] jobs = { testData.job(recruiterUserId, "Platform Engineer"), testData.job(recruiterUserId, "SRE") };
+        for (int i = 0; i < APPLICATIONS; i++) {
+            seekerUserId = testData.seeker();
+            testData.apply(seekerUserId, jobs[i % jobs.length]);
+        }
+        // The last seeker applies to both jobs
+        testData.apply(seekerUserId, jobs[APPLICATIONS % jobs.length]);
+    }
+
+    @Test
+    void recruiterListingStatementCountDoesNotDependOnPageSize() {
+        long small = statements(() -> applicationService.getApplicationsByRecruiter(recruiterUserId, 0, 2), 2);
+        long full = statements(
+                () -> applicationService.getApplicationsByRecruiter(recruiterUserId, 0, APPLICATIONS + 1),
+                APPLICATIONS + 1);
+
+        assertThat(full).isEqualTo(small);
+    }
+
+    @Test
+    void seekerListingStatementCountDoesNotDependOnPageSize() {
+        long one = statements(() -> applicationService.getApplicationsByUser(seekerUserId, 0, 1), 1);
+        long both = statements(() -> applicationService.getApplicationsByUser(seekerUserId, 0, 2), 2);
+
+        assertThat(both).isEqualTo(one);
+    }
+
+    // Statements executed while listing (and mapping) one page, inside a transaction so lazy loads would count
+    private long statements(Supplier<Page<ApplicationDTO>> listing, int expectedRows) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return transactionTemplate.execute(status -> {
+            statistics.clear();
+            Page<ApplicationDTO> page = listing.get();
+            assertThat(page.getContent()).hasSize(expectedRows)
+                    .allSatisfy(application -> {
+                        assertThat(application.getApplicantEmail()).isNotNull();
+                        assertThat(application.getCompanyName()).isNotNull();
+                    });
+            return statistics.getPrepareStatementCount();
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.jobportal.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobCounterBufferTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TestBuffer buffer;
+
+    @BeforeEach
+    void createJobs() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID().toString())
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE jobs (job_id BIGINT PRIMARY KEY, views_count BIGINT NOT NULL, "
+                + "CONSTRAINT views_limit CHECK (views_count <= 1000))");
+        for (long jobId = 1; jobId <= 10; jobId++) {
+            jdbcTemplate.update("INSERT INTO jobs (job_id, views_count) VALUES (?, 0)", jobId);
+        }
+        buffer = new TestBuffer(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(database)));
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        database.shutdown();
+    }
+
+    @Test
+    void failedBatchIsRolledBackAndRetriedWithoutDoubleCounting() {
+        buffer.add(1L, 5);
+        buffer.add(2L, 5000);
+
+        buffer.flush();
+
+        // Job 1 was updated first in the batch, but the batch failed as a whole
+        assertThat(views(1L)).isZero();
+        assertThat(buffer.pending(1L)).isEqualTo(5);
+        assertThat(buffer.pending(2L)).isEqualTo(5000);
+
+        jdbcTemplate.execute("ALTER TABLE jobs DROP CONSTRAINT views_limit");
+        buffer.flush();
+
+        assertThat(views(1L)).isEqualTo(5);
+        assertThat(views(2L)).isEqualTo(5000);
+        assertThat(buffer.pending(1L)).isZero();
+    }
+
+    @Test
+    void concurrentIncrementsSurviveFlushesThatDropIdleJobs() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> writers = new ArrayList<>();
+        jdbcTemplate.execute("ALTER TABLE jobs DROP CONSTRAINT views_limit");
+        for (int t = 0; t < threads; t++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    buffer.add((long) (i % 10) + 1, 1);
+                }
+            }));
+        }
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            buffer.flush();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        buffer.flush();
+
+        Long total = jdbcTemplate.queryForObject("SELECT SUM(views_count) FROM jobs", Long.class);
+        assertThat(total).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+    private long views(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT views_count FROM jobs WHERE job_id = ?", Long.class, jobId);
+    }
+
+    private static final class TestBuffer extends JobCounterBuffer {
+
+        TestBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+            super(jdbcTemplate, transactionTemplate, new SimpleMeterRegistry(), "views_count", "test.views", 10);
+        }
+    }
+}
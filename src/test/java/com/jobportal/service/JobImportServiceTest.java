@@ -0,0 +1,134 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.JobDTO;
+import com.jobportal.dto.JobImportResult;
+import com.jobportal.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports run in batches of two rows and report at most two row errors
+ */
+@SpringBootTest(properties = {
+        "jobportal.jobs.import.batch-size=2",
+        "jobportal.jobs.import.max-errors=2"
+})
+@Import(TestData.class)
+class JobImportServiceTest {
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobService jobService;
+
+    private Long recruiterUserId;
+
+    @BeforeEach
+    void createRecruiter() {
+        recruiterUserId = testData.recruiter();
+    }
+
+    @Test
+    void importsCsvAndReportsRejectedRowsByLine() {
+        String csv = "title,description,skills,location,minSalary\n"
+                + "Backend Engineer,\"Builds APIs,\nowns \"\"payments\"\"\",Java,Pune,1000\n"
+                + ",Missing title,Java,Pune,\n"
+                + "Data Engineer,Pipelines,Python,Mumbai,lots\n"
+                + "QA Engineer,Tests,Selenium,Delhi,\n";
+
+        JobImportResult result = jobImportService.importJobs(recruiterUserId, body(csv), JobImportService.Format.CSV);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        // The quoted description spans lines 2-3, so the bad rows are on lines 4 and 5
+        assertThat(result.getErrors()).extracting(JobImportResult.RowError::getLine).containsExactly(4L, 5L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("Job title is required");
+        assertThat(result.getErrors().get(1).getMessage()).startsWith("Invalid value");
+
+        List<JobDTO> jobs = importedJobs();
+        assertThat(jobs).extracting(JobDTO::getTitle).containsExactlyInAnyOrder("Backend Engineer", "QA Engineer");
+        // Listings omit the description, so read the multi-line one back from the job itself
+        Long backendJobId = jobs.stream().filter(job -> job.getTitle().equals("Backend Engineer"))
+                .findFirst().orElseThrow().getJobId();
+        assertThat(jobService.getJobById(backendJobId).getDescription()).isEqualTo("Builds APIs,\nowns \"payments\"");
+    }
+
+    @Test
+    void importsNdjsonAndReportsRejectedRowsByLine() {
+        String ndjson = "{\"title\":\"Backend Engineer\",\"description\":\"APIs\",\"skills\":\"Java\",\"location\":\"Pune\"}\n"
+                + "\n"
+                + "{\"title\":\"Broken\",\n"
+                + "{\"title\":\"QA Engineer\",\"description\":\"Tests\",\"skills\":\"Selenium\",\"location\":\"Delhi\"}\n";
+
+        JobImportResult result = jobImportService.importJobs(recruiterUserId, body(ndjson),
+                JobImportService.Format.NDJSON);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getLine()).isEqualTo(3);
+                    assertThat(error.getMessage()).startsWith("Invalid JSON");
+                });
+        assertThat(importedJobs()).extracting(JobDTO::getTitle)
+                .containsExactlyInAnyOrder("Backend Engineer", "QA Engineer");
+    }
+
+    @Test
+    void listsOnlyTheFirstMaxErrorsRowErrors() {
+        String csv = "title,description,skills,location\n"
+                + "x,Too short,Java,Pune\n"
+                + "y,Too short,Java,Pune\n"
+                + "z,Too short,Java,Pune\n";
+
+        JobImportResult result = jobImportService.importJobs(recruiterUserId, body(csv), JobImportService.Format.CSV);
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(JobImportResult.RowError::getLine).containsExactly(2L, 3L);
+        assertThat(result.isErrorsTruncated()).isTrue();
+    }
+
+    @Test
+    void rejectsEveryRowOfABatchTheDatabaseRefuses() {
+        // jobType is not validated but the column holds 50 characters: the second batch fails as a whole
+        String csv = "title,description,skills,location,jobType\n"
+                + "Backend Engineer,APIs,Java,Pune,FULL_TIME\n"
+                + "Data Engineer,Pipelines,Python,Mumbai,FULL_TIME\n"
+                + "QA Engineer,Tests,Selenium,Delhi,FULL_TIME\n"
+                + "Ops Engineer,Servers,Linux,Delhi," + "X".repeat(60) + "\n"
+                + "SRE,Uptime,Go,Pune,CONTRACT\n";
+
+        JobImportResult result = jobImportService.importJobs(recruiterUserId, body(csv), JobImportService.Format.CSV);
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(JobImportResult.RowError::getLine).containsExactly(4L, 5L);
+        assertThat(result.getErrors()).allSatisfy(error -> assertThat(error.getMessage()).startsWith("Could not be saved"));
+        assertThat(importedJobs()).extracting(JobDTO::getTitle)
+                .containsExactlyInAnyOrder("Backend Engineer", "Data Engineer", "SRE");
+    }
+
+    private List<JobDTO> importedJobs() {
+        return jobService.getJobsByRecruiter(recruiterUserId, 0, 50).getContent();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobportal.service;
+
+import com.jobportal.dto.UserDTO;
+import com.jobportal.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestData.class)
+class UserSearchTest {
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void deletedAndDeactivatedUsersLeaveTheSearch() {
+        String name = "Searchable " + UUID.randomUUID().toString().substring(0, 8);
+        Long deleted = testData.seeker(name);
+        Long deactivated = testData.seeker(name);
+        assertThat(userService.searchUsers(name)).extracting(UserDTO::getUserId)
+                .containsExactlyInAnyOrder(deleted, deactivated);
+
+        userService.deleteUser(deleted);
+        userService.toggleUserStatus(deactivated);
+        assertThat(userService.searchUsers(name)).isEmpty();
+
+        userService.toggleUserStatus(deactivated);
+        assertThat(userService.searchUsers(name)).extracting(UserDTO::getUserId).containsExactly(deactivated);
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobportal.support;
+
+import com.jobportal.dto.ApplicationRequest;
+import com.jobportal.dto.JobRequest;
+import com.jobportal.dto.RegisterRequest;
+import com.jobportal.service.ApplicationService;
+import com.jobportal.service.AuthService;
+import com.jobportal.service.JobService;
+
+import java.util.UUID;
+
+/**
+ * Creates users, jobs and applications through the services, with unique
+ * emails so that tests sharing an application context do not collide.
+ * Add to a test context with @Import(TestData.class).
+ */
+public class TestData {
+
+    private final AuthService authService;
+    private final JobService jobService;
+    private final ApplicationService applicationService;
+
+    public TestData(AuthService authService, JobService jobService, ApplicationService applicationService) {
+        this.authService = authService;
+        this.jobService = jobService;
+        this.applicationService = applicationService;
+    }
+
+    public Long recruiter() {
+        return register("Test User", "RECRUITER", "Test Company " + UUID.randomUUID());
+    }
+
+    public Long seeker() {
+        return seeker("Test User");
+    }
+
+    public Long seeker(String name) {
+        return register(name, "JOB_SEEKER", null);
+    }
+
+    public Long job(Long recruiterUserId, String title) {
+        JobRequest request = new JobRequest();
+        request.setTitle(title);
+        request.setDescription("Description of " + title);
+        request.setSkills("Java");
+        request.setLocation("Pune");
+        return jobService.createJob(recruiterUserId, request).getJobId();
+    }
+
+    public Long apply(Long seekerUserId, Long jobId) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setJobId(jobId);
+        request.setCoverLetter("Hello");
+        return applicationService.applyForJob(seekerUserId, request).getApplicationId();
+    }
+
+    private Long register(String name, String role, String companyName) {
+        RegisterRequest request = new RegisterRequest();
+        request.setName(name);
+        request.setEmail(UUID.randomUUID() + "@test.example");
+        request.setPassword("secret123");
+        request.setRole(role);
+        request.setCompanyName(companyName);
+        return authService.register(request).getUserId();
+    }
+}
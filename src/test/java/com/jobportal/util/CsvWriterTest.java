@@ -0,0 +1,38 @@
+package com.jobportal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void quotesFieldsThatNeedIt() throws IOException {
+        assertThat(write(Arrays.asList("plain", "a,b", "say \"hi\"", "two\nlines", null, 42)))
+                .isEqualTo("plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",,42\r\n");
+    }
+
+    @Test
+    void neutralizesTextThatSpreadsheetsWouldRunAsAFormula() throws IOException {
+        assertThat(write(List.of("=HYPERLINK(\"http://evil\")", "+1", "-2+3", "@SUM(A1)", "\tx", "\rx")))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\")\",\"'+1\",\"'-2+3\",\"'@SUM(A1)\",\"'\tx\",\"'\rx\"\r\n");
+    }
+
+    @Test
+    void leavesNumbersAndInnerFormulaCharactersAlone() throws IOException {
+        assertThat(write(List.of(-5L, -1.5, LocalDate.of(2024, 5, 1), "a=b", "x-y", "")))
+                .isEqualTo("-5,-1.5,2024-05-01,a=b,x-y,\r\n");
+    }
+
+    private static String write(List<?> fields) throws IOException {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+        return out.toString();
+    }
+}